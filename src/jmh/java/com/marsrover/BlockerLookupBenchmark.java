@@ -0,0 +1,77 @@
+package com.marsrover;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Obstacle lookups at increasing blocker counts.
+ * <p>
+ * {@code contains} probes the blocker set directly with a rotating set of
+ * query cells, while {@code blockedMove} goes through a full MOVE command so
+ * the lookup is measured in the context the rover actually uses it.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class BlockerLookupBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "100000", "10000000"})
+    public int blockerCount;
+
+    @Param({"hash", "packed", "grid"})
+    public String blockerSet;
+
+    private Set<Position> blockers;
+    private Position[] queries;
+    private int next;
+
+    private Coordinates coordinates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int side = (int) Math.sqrt(blockerCount) * 2;
+        if ("grid".equals(blockerSet)) {
+            blockers = new GridBlockerSet(-side, -side, side, side);
+        } else if ("packed".equals(blockerSet)) {
+            blockers = new PackedBlockerSet(blockerCount);
+        } else {
+            blockers = new HashSet<>();
+        }
+        while (blockers.size() < blockerCount) {
+            blockers.add(new Position(random.nextInt(side) - side / 2, random.nextInt(side) - side / 2));
+        }
+        queries = new Position[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new Position(random.nextInt(side) - side / 2, random.nextInt(side) - side / 2);
+        }
+
+        coordinates = new Coordinates(0, 0, Direction.NORTH.getSymbolAsString());
+        coordinates.setBorder(-side, -side, side, side);
+        coordinates.setBlockers(blockers);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        Position query = queries[next++ & (QUERY_COUNT - 1)];
+        return blockers.contains(query);
+    }
+
+    @Benchmark
+    public Coordinates blockedMove() {
+        Position query = queries[next++ & (QUERY_COUNT - 1)];
+        coordinates.setPosition(query.getX(), query.getY() - 1);
+        coordinates.calculateNextMove(Command.MOVE);
+        return coordinates;
+    }
+}
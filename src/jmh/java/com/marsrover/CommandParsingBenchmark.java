@@ -0,0 +1,67 @@
+package com.marsrover;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding cost of single command and direction characters, and bulk
+ * validation of a 1 MB command string per character against the SWAR path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandParsingBenchmark {
+
+    private static final char[] COMMANDS = "LMRMlmrmLLMMRRMM".toCharArray();
+    private static final char[] DIRECTIONS = "NESWnesw".toCharArray();
+
+    private String longCommands;
+    private byte[] longCommandBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder commands = new StringBuilder(1 << 20);
+        for (int i = 0; i < 1 << 20; i++) {
+            commands.append("LRMM".charAt(random.nextInt(4)));
+        }
+        longCommands = commands.toString();
+        longCommandBytes = longCommands.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void commandFromChar(Blackhole blackhole) {
+        for (char c : COMMANDS) {
+            blackhole.consume(Command.fromChar(c));
+        }
+    }
+
+    @Benchmark
+    public void directionFromChar(Blackhole blackhole) {
+        for (char c : DIRECTIONS) {
+            blackhole.consume(Direction.fromChar(c));
+        }
+    }
+
+    @Benchmark
+    public boolean validatePerCharacter() {
+        for (int i = 0; i < longCommands.length(); i++) {
+            if (CommandDecoder.opcode(longCommands.charAt(i)) == CommandDecoder.INVALID) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public int validateSwar() {
+        return CommandDecoder.firstInvalid(longCommandBytes, 0, longCommandBytes.length);
+    }
+}
@@ -0,0 +1,59 @@
+package com.marsrover;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of single rover steps through {@link Coordinates#calculateNextMove}.
+ * <p>
+ * Each invocation performs one command and resets the pose, so the numbers
+ * reflect the per-command cost including any allocation on the move path.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoordinatesBenchmark {
+
+    private static final CommandProgram PATROL = CommandProgram.compile("LMLMLMLMMRMMRMRRMLMLMLMLMMRMMRMRRM");
+
+    private Coordinates coordinates;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        coordinates = new Coordinates(50, 50, Direction.NORTH.getSymbolAsString());
+        coordinates.setBorder(-100, -100, 100, 100);
+    }
+
+    @Benchmark
+    public Coordinates moveByString() {
+        coordinates.calculateNextMove("M");
+        coordinates.setPosition(50, 50);
+        return coordinates;
+    }
+
+    @Benchmark
+    public Coordinates moveByCommand() {
+        coordinates.calculateNextMove(Command.MOVE);
+        coordinates.setPosition(50, 50);
+        return coordinates;
+    }
+
+    @Benchmark
+    public Direction rotateByCommand() {
+        coordinates.calculateNextMove(Command.LEFT);
+        coordinates.calculateNextMove(Command.RIGHT);
+        return coordinates.getDirection();
+    }
+
+    @Benchmark
+    public Coordinates executeProgram() {
+        coordinates.execute(PATROL);
+        coordinates.setPosition(50, 50);
+        return coordinates;
+    }
+}
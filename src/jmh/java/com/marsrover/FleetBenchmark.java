@@ -0,0 +1,94 @@
+package com.marsrover;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential fleet execution with one {@link Coordinates} object per rover
+ * against the struct-of-arrays {@link Fleet}, and independent swarm execution
+ * with the scalar and the Vector API paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class FleetBenchmark {
+
+    private static final int BORDER = 10_000;
+
+    @Param({"10000", "1000000"})
+    public int roverCount;
+
+    @Param({"10"})
+    public int commandLength;
+
+    private List<Mission> missions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        char[] vocabulary = {'L', 'R', 'M', 'M'};
+        missions = new ArrayList<>(roverCount);
+        for (int i = 0; i < roverCount; i++) {
+            StringBuilder commands = new StringBuilder(commandLength);
+            for (int j = 0; j < commandLength; j++) {
+                commands.append(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            missions.add(new Mission(random.nextInt(2 * BORDER + 1) - BORDER, random.nextInt(2 * BORDER + 1) - BORDER,
+                    Direction.values()[random.nextInt(4)], CommandProgram.compile(commands)));
+        }
+    }
+
+    @Benchmark
+    public Object coordinatesPerRover() {
+        PackedBlockerSet blockers = new PackedBlockerSet(roverCount);
+        List<Coordinates> rovers = new ArrayList<>(roverCount);
+        for (Mission mission : missions) {
+            Coordinates rover = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+            rover.setBorder(-BORDER, -BORDER, BORDER, BORDER);
+            rover.setBlockers(blockers);
+            rover.execute(mission.getProgram());
+            blockers.block(rover.getX(), rover.getY());
+            rovers.add(rover);
+        }
+        return rovers;
+    }
+
+    @Benchmark
+    public Object structOfArrays() {
+        Fleet fleet = new Fleet(roverCount, roverCount * commandLength);
+        for (Mission mission : missions) {
+            fleet.add(mission);
+        }
+        fleet.executeSequentially(-BORDER, -BORDER, BORDER, BORDER, new PackedBlockerSet(roverCount));
+        return fleet;
+    }
+
+    @Benchmark
+    public Object swarmScalar() {
+        Fleet fleet = swarm();
+        fleet.executeIndependently(-BORDER, -BORDER, BORDER, BORDER, new PackedBlockerSet());
+        return fleet;
+    }
+
+    @Benchmark
+    public Object swarmVector() {
+        Fleet fleet = swarm();
+        fleet.executeSwarm(-BORDER, -BORDER, BORDER, BORDER, new PackedBlockerSet());
+        return fleet;
+    }
+
+    private Fleet swarm() {
+        Fleet fleet = new Fleet(roverCount, roverCount * commandLength);
+        for (Mission mission : missions) {
+            fleet.add(mission);
+        }
+        return fleet;
+    }
+}
@@ -0,0 +1,72 @@
+package com.marsrover;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end mission processing through {@link RunRoverApplication#main},
+ * covering argument parsing, validation, execution and output formatting.
+ * Standard output is redirected to a discarding stream for the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MissionBenchmark {
+
+    @Param({"10", "1000"})
+    public int roverCount;
+
+    @Param({"10", "1000"})
+    public int commandLength;
+
+    @Param({"trace", "final"})
+    public String verbosity;
+
+    private String[] args;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        char[] vocabulary = {'L', 'R', 'M', 'M'};
+        String[] directions = {"N", "E", "S", "W"};
+
+        List<String> tokens = new ArrayList<>();
+        tokens.add("--verbosity=" + verbosity);
+        tokens.add("100");
+        tokens.add("100");
+        for (int i = 0; i < roverCount; i++) {
+            tokens.add(Integer.toString(random.nextInt(201) - 100));
+            tokens.add(Integer.toString(random.nextInt(201) - 100));
+            tokens.add(directions[random.nextInt(4)]);
+            StringBuilder commands = new StringBuilder(commandLength);
+            for (int j = 0; j < commandLength; j++) {
+                commands.append(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            tokens.add(commands.toString());
+        }
+        args = tokens.toArray(new String[0]);
+
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void processMissions() {
+        RunRoverApplication.main(args);
+    }
+}
@@ -0,0 +1,108 @@
+package com.marsrover;
+
+import java.util.AbstractSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class for blocker sets that are stored by primitive coordinates but
+ * still need to be handed around as a {@code Set<Position>}.
+ * <p>
+ * The {@link java.util.Set} operations are mapped onto the {@link BlockerIndex}
+ * primitives, so passing an instance to {@link Coordinates#setBlockers(java.util.Set)}
+ * lets the rover query it directly without going through {@link Position}.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public abstract class AbstractBlockerSet extends AbstractSet<Position> implements BlockerIndex {
+
+    // Largest rectangle, in cells, that is always probed cell by cell
+    static final int REGION_PROBE_LIMIT = 4096;
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
+
+    /**
+     * Number of changes to the blocked cells. Subclasses increment it on every
+     * successful {@code block}, {@code unblock} and {@code clear}.
+     */
+    protected long modCount;
+
+    @Override
+    public long id() {
+        return id;
+    }
+
+    @Override
+    public long version() {
+        return modCount;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Position)) {
+            return false;
+        }
+        Position p = (Position) o;
+        return isBlocked(p.getX(), p.getY());
+    }
+
+    @Override
+    public boolean add(Position p) {
+        return block(p.getX(), p.getY());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Position)) {
+            return false;
+        }
+        Position p = (Position) o;
+        return unblock(p.getX(), p.getY());
+    }
+
+    @Override
+    public int size() {
+        return count();
+    }
+
+    /**
+     * Probes small rectangles cell by cell and otherwise scans the blockers
+     * themselves, whichever touches fewer cells.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        if (cells < 0 || count() == 0) {
+            return true;
+        }
+        if (cells <= Math.max(count(), REGION_PROBE_LIMIT)) {
+            return probeRegion(this, minX, minY, maxX, maxY);
+        }
+        for (Position p : this) {
+            if (p.isWithinBorders(minX, minY, maxX, maxY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean probeRegion(BlockerIndex index, int minX, int minY, int maxX, int maxY) {
+        for (int y = minY; ; y++) {
+            for (int x = minX; ; x++) {
+                if (index.isBlocked(x, y)) {
+                    return false;
+                }
+                if (x == maxX) {
+                    break;
+                }
+            }
+            if (y == maxY) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.marsrover;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for blocker sets that keep a bounded plateau as one bit per cell.
+ * <p>
+ * Cells inside {@code [minX, maxX] x [minY, maxY]} map to bit
+ * {@code (y - minY) * width + (x - minX)}, row-major, and bit {@code b} of
+ * word {@code w} is cell {@code w * 64 + b}. Subclasses only decide where the
+ * words are stored, through {@link #word(long)} and {@link #setWord(long, long)};
+ * lookups, updates, word-at-a-time ray casts and region scans, and iteration
+ * are shared. Cells outside the rectangle are kept in a small
+ * {@link AxisBlockerSet} so the {@link java.util.Set} contract still holds
+ * and rays beyond the edge stay cheap.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public abstract class AbstractGridBlockerSet extends AbstractBlockerSet {
+
+    protected final int minX;
+    protected final int minY;
+    protected final int maxX;
+    protected final int maxY;
+    protected final long width;
+    protected final long words;
+    private final AxisBlockerSet outside = new AxisBlockerSet();
+    private long inside;
+
+    /**
+     * @throws IllegalArgumentException if the bounds are empty or too large to count
+     */
+    protected AbstractGridBlockerSet(int minX, int minY, int maxX, int maxY) {
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        if (cells < 0) {
+            throw new IllegalArgumentException("Invalid grid bounds: " + minX + " " + minY + " " + maxX + " " + maxY);
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.width = (long) maxX - minX + 1;
+        this.words = cells == Long.MAX_VALUE ? Long.MAX_VALUE : (cells + 63) >>> 6;
+    }
+
+    /**
+     * Word {@code index} of the bitmap.
+     */
+    protected abstract long word(long index);
+
+    protected abstract void setWord(long index, long value);
+
+    /**
+     * Called after cell {@code (x, y)} inside the grid was blocked or unblocked.
+     */
+    protected void cellChanged(int x, int y, boolean blocked) {
+    }
+
+    /**
+     * Recounts the blocked cells from the words, for bitmaps that start out non-empty.
+     */
+    protected void recount() {
+        inside = 0;
+        for (long w = 0; w < words; w++) {
+            inside += Long.bitCount(word(w));
+        }
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    boolean hasBounds(int minX, int minY, int maxX, int maxY) {
+        return this.minX == minX && this.minY == minY && this.maxX == maxX && this.maxY == maxY;
+    }
+
+    /**
+     * Number of blocked cells inside the grid.
+     */
+    protected long insideCount() {
+        return inside;
+    }
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return outside.isBlocked(x, y);
+        }
+        long bit = bitIndex(x, y);
+        return (word(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return outside.block(x, y);
+        }
+        long bit = bitIndex(x, y);
+        long index = bit >>> 6;
+        long w = word(index);
+        long mask = 1L << bit;
+        if ((w & mask) != 0) {
+            return false;
+        }
+        setWord(index, w | mask);
+        inside++;
+        modCount++;
+        cellChanged(x, y, true);
+        return true;
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return outside.unblock(x, y);
+        }
+        long bit = bitIndex(x, y);
+        long index = bit >>> 6;
+        long w = word(index);
+        long mask = 1L << bit;
+        if ((w & mask) == 0) {
+            return false;
+        }
+        setWord(index, w & ~mask);
+        inside--;
+        modCount++;
+        cellChanged(x, y, false);
+        return true;
+    }
+
+    /**
+     * Horizontal rays scan the row 64 cells per word and vertical rays test
+     * one bit per row. A ray that leaves the grid is answered up to the edge
+     * from the bitmap and beyond it by the sorted index of the outside cells;
+     * only rays that start outside the grid fall back to cell-by-cell checks.
+     */
+    @Override
+    public long freeSteps(int x, int y, Direction direction, long limit) {
+        if (limit <= 0 || count() == 0) {
+            return Math.max(limit, 0);
+        }
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return super.freeSteps(x, y, direction, limit);
+        }
+        int dx = direction.getDeltaX();
+        int dy = direction.getDeltaY();
+        long toEdge = dx > 0 ? (long) maxX - x : dx < 0 ? (long) x - minX : dy > 0 ? (long) maxY - y : (long) y - minY;
+        if (toEdge >= limit) {
+            return freeStepsInside(x, y, dx, dy, limit);
+        }
+        long inside = freeStepsInside(x, y, dx, dy, toEdge);
+        if (inside < toEdge) {
+            return inside;
+        }
+        return toEdge + outside.freeSteps((int) (x + dx * toEdge), (int) (y + dy * toEdge), direction, limit - toEdge);
+    }
+
+    // Free steps along a ray whose 'limit' cells ahead are all inside the grid.
+    private long freeStepsInside(int x, int y, int dx, int dy, long limit) {
+        if (limit == 0 || inside == 0) {
+            return limit;
+        }
+        long start = bitIndex(x, y);
+        if (dx > 0) {
+            long hit = nextSetBit(start + 1, start + limit);
+            return hit < 0 ? limit : hit - start - 1;
+        }
+        if (dx < 0) {
+            long hit = previousSetBit(start - 1, start - limit);
+            return hit < 0 ? limit : start - hit - 1;
+        }
+        long stride = dy > 0 ? width : -width;
+        long bit = start;
+        for (long steps = 0; steps < limit; steps++) {
+            bit += stride;
+            if ((word(bit >>> 6) & (1L << bit)) != 0) {
+                return steps;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Scans each row of the rectangle a word at a time. Rectangles that reach
+     * outside the grid use the generic check.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (minX < this.minX || maxX > this.maxX || minY < this.minY || maxY > this.maxY) {
+            return super.isRegionClear(minX, minY, maxX, maxY);
+        }
+        if (inside == 0) {
+            return true;
+        }
+        for (int y = minY; y <= maxY; y++) {
+            long from = bitIndex(minX, y);
+            if (nextSetBit(from, from + ((long) maxX - minX)) >= 0) {
+                return false;
+            }
+            if (y == Integer.MAX_VALUE) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    // First set bit in [from, to], or -1.
+    long nextSetBit(long from, long to) {
+        long index = from >>> 6;
+        long last = to >>> 6;
+        long w = word(index) & (-1L << from);
+        while (true) {
+            if (w != 0) {
+                long bit = (index << 6) + Long.numberOfTrailingZeros(w);
+                return bit <= to ? bit : -1;
+            }
+            if (++index > last) {
+                return -1;
+            }
+            w = word(index);
+        }
+    }
+
+    // Last set bit in [to, from], scanning downwards from 'from', or -1.
+    long previousSetBit(long from, long to) {
+        long index = from >>> 6;
+        long last = to >>> 6;
+        long w = word(index) & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (w != 0) {
+                long bit = (index << 6) + 63 - Long.numberOfLeadingZeros(w);
+                return bit >= to ? bit : -1;
+            }
+            if (--index < last) {
+                return -1;
+            }
+            w = word(index);
+        }
+    }
+
+    @Override
+    public long version() {
+        return modCount + outside.version();
+    }
+
+    @Override
+    public int count() {
+        return (int) Math.min(Integer.MAX_VALUE, inside + outside.count());
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        clearWords();
+        inside = 0;
+        outside.clear();
+    }
+
+    /**
+     * Zeroes every word; subclasses with bulk storage can do better than one word at a time.
+     */
+    protected void clearWords() {
+        for (long w = 0; w < words; w++) {
+            setWord(w, 0L);
+        }
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        Iterator<Position> outsideIterator = outside.iterator();
+        return new Iterator<>() {
+            private long index = -1;
+            private long remaining;
+
+            {
+                advance();
+            }
+
+            private void advance() {
+                while (remaining == 0 && ++index < words) {
+                    remaining = word(index);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < words || outsideIterator.hasNext();
+            }
+
+            @Override
+            public Position next() {
+                if (index < words) {
+                    long bit = (index << 6) + Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    advance();
+                    return new Position((int) (minX + bit % width), (int) (minY + bit / width));
+                }
+                if (outsideIterator.hasNext()) {
+                    return outsideIterator.next();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    protected long bitIndex(int x, int y) {
+        return (y - (long) minY) * width + (x - (long) minX);
+    }
+}
@@ -0,0 +1,78 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * {@link PoseStore} backed by parallel heap arrays: {@code int[] x},
+ * {@code int[] y} and {@code byte[] dir} holding {@link Direction} ordinals.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class ArrayPoseStore implements PoseStore {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private int[] x;
+    private int[] y;
+    private byte[] dir;
+
+    public ArrayPoseStore(int capacity) {
+        int rovers = Math.max(1, capacity);
+        this.x = new int[rovers];
+        this.y = new int[rovers];
+        this.dir = new byte[rovers];
+    }
+
+    @Override
+    public int capacity() {
+        return x.length;
+    }
+
+    @Override
+    public void ensureCapacity(int rovers) {
+        if (rovers > x.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(rovers, 2L * x.length));
+            this.x = Arrays.copyOf(x, capacity);
+            this.y = Arrays.copyOf(y, capacity);
+            this.dir = Arrays.copyOf(dir, capacity);
+        }
+    }
+
+    @Override
+    public int getX(int rover) {
+        return x[rover];
+    }
+
+    @Override
+    public int getY(int rover) {
+        return y[rover];
+    }
+
+    @Override
+    public Direction getDirection(int rover) {
+        return DIRECTIONS[dir[rover]];
+    }
+
+    @Override
+    public void set(int rover, int x, int y, Direction direction) {
+        this.x[rover] = x;
+        this.y[rover] = y;
+        this.dir[rover] = (byte) direction.ordinal();
+    }
+
+    // The arrays themselves, for bulk kernels such as VectorFleetStepper. Only valid until the next ensureCapacity.
+
+    int[] xs() {
+        return x;
+    }
+
+    int[] ys() {
+        return y;
+    }
+
+    byte[] dirs() {
+        return dir;
+    }
+}
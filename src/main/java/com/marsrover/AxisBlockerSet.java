@@ -0,0 +1,169 @@
+package com.marsrover;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Blocker set indexed by row and by column, each kept sorted.
+ * <p>
+ * Besides membership tests, this answers "how far can a rover travel along
+ * this row or column" with one binary search, so a run of MOVE commands is
+ * cast as a ray in O(log n) instead of being stepped cell by cell.
+ * Each blocker is stored twice, once in its row and once in its column, and
+ * both indexes are keyed on the unboxed coordinate.
+ * </p>
+ * <p>
+ * {@link BlockerSets#forBorder} picks this set for plateaus too large for a
+ * {@link GridBlockerSet}, including the unbounded default of
+ * {@link Coordinates}, and grid sets keep their outside cells in one.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class AxisBlockerSet extends AbstractBlockerSet {
+
+    private final IntObjectMap<SortedIntList> rows = new IntObjectMap<>(); // y -> sorted x
+    private final IntObjectMap<SortedIntList> columns = new IntObjectMap<>(); // x -> sorted y
+    private int size;
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        SortedIntList row = rows.get(y);
+        return row != null && row.contains(x);
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        if (!line(rows, y).add(x)) {
+            return false;
+        }
+        line(columns, x).add(y);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        SortedIntList row = rows.get(y);
+        if (row == null || !row.remove(x)) {
+            return false;
+        }
+        if (row.size() == 0) {
+            rows.remove(y);
+        }
+        SortedIntList column = columns.get(x);
+        column.remove(y);
+        if (column.size() == 0) {
+            columns.remove(x);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        rows.clear();
+        columns.clear();
+        size = 0;
+    }
+
+    @Override
+    public long freeSteps(int x, int y, Direction direction, long limit) {
+        boolean horizontal = direction.getDeltaY() == 0;
+        SortedIntList line = horizontal ? rows.get(y) : columns.get(x);
+        if (line == null) {
+            return limit;
+        }
+        int from = horizontal ? x : y;
+        long distance;
+        if (direction.getDeltaX() + direction.getDeltaY() > 0) {
+            int index = line.higherIndex(from);
+            distance = index < line.size() ? (long) line.get(index) - from - 1 : Long.MAX_VALUE;
+        } else {
+            int index = line.lowerIndex(from);
+            distance = index >= 0 ? (long) from - line.get(index) - 1 : Long.MAX_VALUE;
+        }
+        return Math.min(distance, limit);
+    }
+
+    /**
+     * Looks at whichever is fewer: the rows spanned by the rectangle or the
+     * non-empty rows, with one binary search per row.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            return true;
+        }
+        if ((long) maxY - minY + 1 <= rows.size()) {
+            for (long y = minY; y <= maxY; y++) {
+                SortedIntList row = rows.get((int) y);
+                if (row != null && hasValueIn(row, minX, maxX)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int slot = 0; slot < rows.capacity(); slot++) {
+            SortedIntList row = rows.valueAt(slot);
+            int y = rows.keyAt(slot);
+            if (row != null && y >= minY && y <= maxY && hasValueIn(row, minX, maxX)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static SortedIntList line(IntObjectMap<SortedIntList> lines, int key) {
+        SortedIntList line = lines.get(key);
+        if (line == null) {
+            line = new SortedIntList();
+            lines.put(key, line);
+        }
+        return line;
+    }
+
+    private static boolean hasValueIn(SortedIntList line, int min, int max) {
+        int index = line.lowerIndex(min) + 1;
+        return index < line.size() && line.get(index) <= max;
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        return new Iterator<>() {
+            private int slot = -1;
+            private int y;
+            private SortedIntList row;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while ((row == null || index >= row.size()) && slot + 1 < rows.capacity()) {
+                    slot++;
+                    y = rows.keyAt(slot);
+                    row = rows.valueAt(slot);
+                    index = 0;
+                }
+                return row != null && index < row.size();
+            }
+
+            @Override
+            public Position next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Position(row.get(index++), y);
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.marsrover;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads missions written by {@link BinaryMissionWriter}.
+ * <p>
+ * Like {@link MappedMissionReader} it works as a cursor: {@link #next()}
+ * advances to the next mission, whose commands are returned as a
+ * {@link PackedCommandProgram} that rovers run without unpacking.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class BinaryMissionReader implements Closeable {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final InputStream in;
+    private final Position border;
+    private long offset;
+
+    private int x;
+    private int y;
+    private Direction direction;
+    private PackedCommandProgram commands;
+
+    /**
+     * Reads the header.
+     *
+     * @throws IllegalArgumentException if the input is not a binary mission file
+     */
+    public BinaryMissionReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, 1 << 16);
+        byte[] magic = this.in.readNBytes(BinaryMissionWriter.MAGIC.length);
+        offset = magic.length;
+        if (!Arrays.equals(magic, BinaryMissionWriter.MAGIC)) {
+            throw new IllegalArgumentException("Not a binary mission file");
+        }
+        this.border = new Position(readSigned("border x"), readSigned("border y"));
+    }
+
+    public Position getBorder() {
+        return border;
+    }
+
+    /**
+     * Advances to the next mission.
+     *
+     * @return {@code false} at the end of the input
+     * @throws IllegalArgumentException if the input is malformed or truncated
+     */
+    public boolean next() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+        offset++;
+        x = readSigned(first, "x");
+        y = readSigned("y");
+        int ordinal = readByte("direction");
+        if (ordinal >= DIRECTIONS.length) {
+            throw new IllegalArgumentException("Invalid direction " + ordinal + " at offset " + (offset - 1));
+        }
+        direction = DIRECTIONS[ordinal];
+        int length = readUnsigned(readByte("command count"), "command count");
+        byte[] packed = in.readNBytes(PackedCommandProgram.packedSize(length));
+        offset += packed.length;
+        if (packed.length != PackedCommandProgram.packedSize(length)) {
+            throw new IllegalArgumentException("Unexpected end of input in commands at offset " + offset);
+        }
+        commands = PackedCommandProgram.wrap(packed, length);
+        return true;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public PackedCommandProgram getCommands() {
+        return commands;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int readByte(String name) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new IllegalArgumentException("Unexpected end of input, expected " + name);
+        }
+        offset++;
+        return b;
+    }
+
+    private int readSigned(String name) throws IOException {
+        return readSigned(readByte(name), name);
+    }
+
+    private int readSigned(int first, String name) throws IOException {
+        int zigzag = readUnsigned(first, name);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private int readUnsigned(int first, String name) throws IOException {
+        long start = offset - 1;
+        long value = first & 0x7F;
+        int shift = 7;
+        int b = first;
+        while ((b & 0x80) != 0) {
+            if (shift > 28) {
+                throw new IllegalArgumentException("Varint too long for " + name + " at offset " + start);
+            }
+            b = readByte(name);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        if (value > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Varint out of range for " + name + " at offset " + start);
+        }
+        return (int) value;
+    }
+}
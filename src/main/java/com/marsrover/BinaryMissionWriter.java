@@ -0,0 +1,75 @@
+package com.marsrover;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes missions in the compact binary mission format.
+ * <p>
+ * The file starts with the magic bytes {@code MRB1} and the border x and y.
+ * Each mission follows as its x and y, one byte holding the
+ * {@link Direction} ordinal, the number of commands, and the commands packed
+ * 2 bits each as in {@link PackedCommandProgram}. Integers are LEB128
+ * varints; coordinates are zigzag-encoded first so that small negative values
+ * stay short. A typical mission takes a quarter of its text size plus a few
+ * bytes, and is read back by {@link BinaryMissionReader} without any parsing
+ * of characters.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class BinaryMissionWriter implements Closeable, Flushable {
+
+    static final byte[] MAGIC = {'M', 'R', 'B', '1'};
+
+    private final OutputStream out;
+
+    public BinaryMissionWriter(OutputStream out, int borderX, int borderY) throws IOException {
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.out.write(MAGIC);
+        writeSigned(borderX);
+        writeSigned(borderY);
+    }
+
+    public void write(int x, int y, Direction direction, CommandSequence commands) throws IOException {
+        writeSigned(x);
+        writeSigned(y);
+        out.write(direction.ordinal());
+        writeUnsigned(commands.length());
+        PackedCommandProgram packed = commands instanceof PackedCommandProgram
+                ? (PackedCommandProgram) commands
+                : PackedCommandProgram.pack(commands);
+        out.write(packed.toPackedBytes());
+    }
+
+    public void write(Mission mission) throws IOException {
+        write(mission.getX(), mission.getY(), mission.getDirection(), mission.getProgram());
+    }
+
+    private void writeSigned(int value) throws IOException {
+        writeUnsigned((value << 1) ^ (value >> 31));
+    }
+
+    private void writeUnsigned(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
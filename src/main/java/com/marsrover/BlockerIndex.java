@@ -0,0 +1,100 @@
+package com.marsrover;
+
+/**
+ * Primitive-coordinate view of the cells a rover may not enter.
+ * <p>
+ * Lets {@link Coordinates} test obstacles with plain {@code int} coordinates
+ * so that implementations can store blockers without one {@link Position}
+ * object per cell and answer lookups without allocating.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BlockerIndex {
+
+    /**
+     * Returned by {@link #id()} and {@link #version()} when an index cannot tell whether it changed.
+     */
+    long UNVERSIONED = -1;
+
+    boolean isBlocked(int x, int y);
+
+    /**
+     * Marks the cell as blocked.
+     *
+     * @return {@code true} if the cell was not blocked before
+     */
+    boolean block(int x, int y);
+
+    /**
+     * Clears the cell.
+     *
+     * @return {@code true} if the cell was blocked before
+     */
+    boolean unblock(int x, int y);
+
+    int count();
+
+    /**
+     * Identifier of this index, unique within the JVM, or {@link #UNVERSIONED}.
+     * Together with {@link #version()} it lets caches key results on the exact obstacle state.
+     */
+    default long id() {
+        return UNVERSIONED;
+    }
+
+    /**
+     * Number that grows whenever the blocked cells change, or {@link #UNVERSIONED}
+     * if changes are not tracked (for example a plain {@link java.util.Set} wrapped by the rover).
+     */
+    default long version() {
+        return UNVERSIONED;
+    }
+
+    /**
+     * Counts the free cells a rover at {@code (x, y)} facing {@code direction}
+     * can move through before reaching a blocked cell, up to {@code limit}.
+     * The caller guarantees the {@code limit} cells ahead fit in {@code int}
+     * coordinates. The default answers an empty index at once and otherwise
+     * walks cell by cell; implementations with an ordered layout can answer
+     * without visiting every cell.
+     */
+    default long freeSteps(int x, int y, Direction direction, long limit) {
+        if (limit > 0 && count() == 0) {
+            return limit;
+        }
+        int dx = direction.getDeltaX();
+        int dy = direction.getDeltaY();
+        long steps = 0;
+        while (steps < limit) {
+            x += dx;
+            y += dy;
+            if (isBlocked(x, y)) {
+                break;
+            }
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Tells whether no cell of the rectangle is blocked. Used before advancing
+     * a rover through a whole region at once. Implementations may answer
+     * {@code false} when checking would cost more than it saves; callers then
+     * fall back to step-by-step execution. The default only probes small
+     * rectangles cell by cell.
+     */
+    default boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (count() == 0) {
+            return true;
+        }
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        if (cells < 0) {
+            return true;
+        }
+        return cells <= AbstractBlockerSet.REGION_PROBE_LIMIT
+                && AbstractBlockerSet.probeRegion(this, minX, minY, maxX, maxY);
+    }
+}
@@ -0,0 +1,109 @@
+package com.marsrover;
+
+/**
+ * Chooses a blocker set implementation for a given plateau.
+ * <p>
+ * Bounded plateaus whose area fits within the grid cell budget get a
+ * {@link GridBlockerSet}; anything larger, including the unbounded default
+ * of {@link Coordinates}, gets an {@link AxisBlockerSet}, whose sorted rows
+ * and columns let long MOVE runs over sparse obstacles skip straight to the
+ * next blocker. The budget defaults to 2^30 cells (128 MB of bitmap) and can
+ * be changed with the {@code marsrover.blockers.grid-cell-budget} system
+ * property or {@link #setGridCellBudget(long)}. Whatever the budget, a bitmap
+ * is only chosen if it takes at most a quarter of the heap still available,
+ * so a small {@code -Xmx} falls back to the axis set instead of running out
+ * of memory.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BlockerSets {
+
+    public static final String GRID_CELL_BUDGET_PROPERTY = "marsrover.blockers.grid-cell-budget";
+
+    private static final long DEFAULT_GRID_CELL_BUDGET = 1L << 30;
+
+    // A bitmap may use at most 1 / HEAP_SHARE of the available heap
+    private static final int HEAP_SHARE = 4;
+
+    private static volatile long gridCellBudget = Long.getLong(GRID_CELL_BUDGET_PROPERTY, DEFAULT_GRID_CELL_BUDGET);
+
+    /**
+     * Index with no blocked cells, used until a rover is given real blockers.
+     */
+    static final BlockerIndex NONE = new BlockerIndex() {
+        @Override
+        public boolean isBlocked(int x, int y) {
+            return false;
+        }
+
+        @Override
+        public boolean block(int x, int y) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean unblock(int x, int y) {
+            return false;
+        }
+
+        @Override
+        public int count() {
+            return 0;
+        }
+
+        @Override
+        public long id() {
+            return 0;
+        }
+
+        @Override
+        public long version() {
+            return 0;
+        }
+
+        @Override
+        public long freeSteps(int x, int y, Direction direction, long limit) {
+            return limit;
+        }
+
+        @Override
+        public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+            return true;
+        }
+    };
+
+    private BlockerSets() {
+    }
+
+    public static long getGridCellBudget() {
+        return gridCellBudget;
+    }
+
+    public static void setGridCellBudget(long cells) {
+        gridCellBudget = cells;
+    }
+
+    public static boolean fitsGrid(int minX, int minY, int maxX, int maxY) {
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        return cells > 0 && cells <= gridCellBudget && cells <= (long) (Integer.MAX_VALUE - 8) << 6
+                && (cells + 7) >>> 3 <= availableHeap() / HEAP_SHARE;
+    }
+
+    /**
+     * Bytes the heap can still grow by: the maximum heap size minus what is in use.
+     */
+    static long availableHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    public static AbstractBlockerSet forBorder(int minX, int minY, int maxX, int maxY) {
+        if (fitsGrid(minX, minY, maxX, maxY)) {
+            return new GridBlockerSet(minX, minY, maxX, maxY);
+        }
+        return new AxisBlockerSet();
+    }
+}
@@ -33,13 +33,11 @@ public enum Command {
     }
 
     public static Command fromChar(char c) {
-        c = Character.toUpperCase(c);
-        for (Command command : VALUES) {
-            if (command.symbol == c) {
-                return command;
-            }
+        byte opcode = CommandDecoder.opcode(c);
+        if (opcode == CommandDecoder.INVALID) {
+            throw new IllegalArgumentException("Invalid command: " + Character.toUpperCase(c));
         }
-        throw new IllegalArgumentException("Invalid command: " + c);
+        return VALUES[opcode];
     }
 
     public static Command fromString(String s) {
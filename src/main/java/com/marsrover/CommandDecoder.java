@@ -0,0 +1,136 @@
+package com.marsrover;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Table-driven decoding and bulk validation of command letters.
+ * <p>
+ * Single characters are decoded through a 256-entry table from byte value
+ * to opcode ({@link Command} ordinal, or {@link #INVALID}), so no case
+ * conversion or search over {@code values()} is needed. Byte ranges are
+ * validated 8 bytes at a time (SWAR): folding the case bit and testing each
+ * byte lane for equality with {@code l}, {@code m} and {@code r} takes a few
+ * long operations per word. None of the bulk methods throw for bad input;
+ * they return the offset of the first invalid character, or {@code -1} if
+ * every character is a command.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CommandDecoder {
+
+    public static final byte INVALID = -1;
+
+    private static final byte[] OPCODES = new byte[256];
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOWS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long CASE_BITS = 0x20 * ONES;
+    private static final long LOWER_L = 'l' * ONES;
+    private static final long LOWER_M = 'm' * ONES;
+    private static final long LOWER_R = 'r' * ONES;
+
+    static {
+        Arrays.fill(OPCODES, INVALID);
+        for (Command command : Command.values()) {
+            OPCODES[command.getSymbol()] = (byte) command.ordinal();
+            OPCODES[Character.toLowerCase(command.getSymbol())] = (byte) command.ordinal();
+        }
+    }
+
+    private CommandDecoder() {
+    }
+
+    /**
+     * Opcode of a command character, case-insensitive, or {@link #INVALID}.
+     */
+    public static byte opcode(char c) {
+        return c < OPCODES.length ? OPCODES[c] : INVALID;
+    }
+
+    /**
+     * Offset of the first character that is not a command letter, or {@code -1}.
+     */
+    public static int firstInvalid(CharSequence commands) {
+        for (int i = 0, n = commands.length(); i < n; i++) {
+            if (opcode(commands.charAt(i)) == INVALID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first byte in {@code [from, to)} that is not a command letter, or {@code -1}.
+     */
+    public static int firstInvalid(byte[] bytes, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long bad = ~commandLanes((long) LONGS.get(bytes, i)) & HIGHS;
+            if (bad != 0) {
+                return i + (Long.numberOfTrailingZeros(bad) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (OPCODES[bytes[i] & 0xFF] == INVALID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first byte in {@code [from, to)} of the buffer that is not a
+     * command letter, or {@code -1}. Uses absolute reads, so the buffer's
+     * position is unchanged.
+     */
+    public static int firstInvalid(ByteBuffer buffer, int from, int to) {
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long bad = ~commandLanes(buffer.getLong(i)) & HIGHS;
+            if (bad != 0) {
+                return i + ((bigEndian ? Long.numberOfLeadingZeros(bad) : Long.numberOfTrailingZeros(bad)) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (OPCODES[buffer.get(i) & 0xFF] == INVALID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes {@code bytes[from, to)} into {@code ops} starting at {@code opsOffset}.
+     * Stops at the first invalid byte and returns its index, or returns
+     * {@code -1} once the whole range is decoded.
+     */
+    public static int decode(byte[] bytes, int from, int to, byte[] ops, int opsOffset) {
+        int invalid = firstInvalid(bytes, from, to);
+        int end = invalid < 0 ? to : invalid;
+        for (int i = from; i < end; i++) {
+            ops[opsOffset + i - from] = OPCODES[bytes[i] & 0xFF];
+        }
+        return invalid;
+    }
+
+    // 0x80 in each byte lane of the word that holds L, M or R in either case.
+    private static long commandLanes(long word) {
+        long folded = word | CASE_BITS;
+        return zeroLanes(folded ^ LOWER_L) | zeroLanes(folded ^ LOWER_M) | zeroLanes(folded ^ LOWER_R);
+    }
+
+    // 0x80 in each byte lane that is zero, with no carries between lanes.
+    private static long zeroLanes(long v) {
+        return ~(((v & LOWS) + LOWS) | v | LOWS);
+    }
+}
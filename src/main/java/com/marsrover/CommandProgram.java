@@ -0,0 +1,190 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * A command string validated and compiled once into a compact opcode array.
+ * <p>
+ * Opcodes are the {@link Command} ordinals stored one per byte, so a program
+ * can be run by {@link Coordinates#execute(CommandProgram)} in a single loop
+ * without per-command parsing or {@code String} allocation. Programs are
+ * immutable and can be shared between any number of rovers.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CommandProgram implements CommandSequence {
+
+    static final byte LEFT = (byte) Command.LEFT.ordinal();
+    static final byte RIGHT = (byte) Command.RIGHT.ordinal();
+    static final byte MOVE = (byte) Command.MOVE.ordinal();
+
+    private static final Command[] COMMANDS = Command.values();
+
+    public static final CommandProgram EMPTY = new CommandProgram(new byte[0]);
+
+    private final byte[] ops;
+    private final int hashCode;
+
+    // Run-length view of ops, built on first execution
+    private volatile Segments segments;
+
+    private CommandProgram(byte[] ops) {
+        this.ops = ops;
+        this.hashCode = Arrays.hashCode(ops);
+    }
+
+    /**
+     * Compiles a command string such as {@code "LMLMLMLMM"}. Commands are case-insensitive.
+     *
+     * @throws IllegalArgumentException if the string contains anything other than L, R and M
+     */
+    public static CommandProgram compile(CharSequence commands) {
+        int length = commands.length();
+        if (length == 0) {
+            return EMPTY;
+        }
+        byte[] ops = new byte[length];
+        for (int i = 0; i < length; i++) {
+            ops[i] = opcode(commands.charAt(i), i);
+        }
+        return new CommandProgram(ops);
+    }
+
+    public static CommandProgram of(Command... commands) {
+        byte[] ops = new byte[commands.length];
+        for (int i = 0; i < commands.length; i++) {
+            ops[i] = (byte) commands[i].ordinal();
+        }
+        return new CommandProgram(ops);
+    }
+
+    /**
+     * Wraps already decoded opcodes. The array must not be modified afterwards.
+     */
+    static CommandProgram ofOpcodes(byte[] ops) {
+        return ops.length == 0 ? EMPTY : new CommandProgram(ops);
+    }
+
+    static byte opcode(char c, int offset) {
+        byte opcode = CommandDecoder.opcode(c);
+        if (opcode == CommandDecoder.INVALID) {
+            throw new IllegalArgumentException("Invalid command: " + c + " at offset " + offset);
+        }
+        return opcode;
+    }
+
+    @Override
+    public int length() {
+        return ops.length;
+    }
+
+    @Override
+    public Command commandAt(int index) {
+        return COMMANDS[ops[index]];
+    }
+
+    byte opcodeAt(int index) {
+        return ops[index];
+    }
+
+    /**
+     * Lexicographic order of the opcodes; a program sorts before every longer program it is a prefix of.
+     */
+    static int compare(CommandProgram a, CommandProgram b) {
+        return Arrays.compare(a.ops, b.ops);
+    }
+
+    /**
+     * First index at or after {@code from} where the two programs differ, or
+     * the length of the shorter one if it is a prefix of the other.
+     */
+    int mismatch(CommandProgram other, int from) {
+        int end = Math.min(ops.length, other.ops.length);
+        if (from >= end) {
+            return end;
+        }
+        int index = Arrays.mismatch(ops, from, end, other.ops, from, end);
+        return index < 0 ? end : from + index;
+    }
+
+    /**
+     * Run-length view of the program, built on first use.
+     */
+    Segments segments() {
+        Segments current = segments;
+        if (current == null) {
+            current = new Segments(ops);
+            segments = current;
+        }
+        return current;
+    }
+
+    /**
+     * Opcode and length of each maximal run of equal commands.
+     */
+    static final class Segments {
+        private final byte[] ops;
+        private final int[] lengths;
+
+        Segments(byte[] program) {
+            int count = 0;
+            for (int i = 0; i < program.length; i++) {
+                if (i == 0 || program[i] != program[i - 1]) {
+                    count++;
+                }
+            }
+            byte[] opcodes = new byte[count];
+            int[] runLengths = new int[count];
+            int segment = -1;
+            for (int i = 0; i < program.length; i++) {
+                if (i == 0 || program[i] != program[i - 1]) {
+                    opcodes[++segment] = program[i];
+                }
+                runLengths[segment]++;
+            }
+            this.ops = opcodes;
+            this.lengths = runLengths;
+        }
+
+        int count() {
+            return ops.length;
+        }
+
+        byte opcode(int segment) {
+            return ops[segment];
+        }
+
+        int length(int segment) {
+            return lengths[segment];
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CommandProgram)) {
+            return false;
+        }
+        CommandProgram other = (CommandProgram) obj;
+        return hashCode == other.hashCode && Arrays.equals(ops, other.ops);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(ops.length);
+        for (byte op : ops) {
+            sb.append(COMMANDS[op].getSymbol());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.marsrover;
+
+/**
+ * Read-only, indexed sequence of rover commands.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public interface CommandSequence {
+
+    int length();
+
+    Command commandAt(int index);
+
+    /**
+     * The letter command {@code index} was written as. Sequences that still
+     * point at their input text return it unchanged, so a lower-case command
+     * is echoed as typed; compiled sequences return {@link Command#getSymbol()}.
+     */
+    default char symbolAt(int index) {
+        return commandAt(index).getSymbol();
+    }
+}
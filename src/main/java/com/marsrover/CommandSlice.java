@@ -0,0 +1,98 @@
+package com.marsrover;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Commands kept as a range of bytes in a (typically memory-mapped) buffer.
+ * <p>
+ * Nothing is copied: the slice points at the command letters where they
+ * were read, and {@link Coordinates#execute(CommandSlice)} decodes them in
+ * place. The bytes are validated as they are decoded rather than when the
+ * slice is created, so running a slice reads each byte once; an invalid
+ * byte is reported by whichever method reaches it first, or up front by
+ * {@link #validate()}.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CommandSlice implements CommandSequence {
+
+    private static final Command[] COMMANDS = Command.values();
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    public CommandSlice(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Command commandAt(int index) {
+        return COMMANDS[opcodeAt(index)];
+    }
+
+    @Override
+    public char symbolAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    /**
+     * Checks the whole slice at once.
+     *
+     * @throws IllegalArgumentException if any byte in the range is not a command letter
+     */
+    public void validate() {
+        int invalid = CommandDecoder.firstInvalid(buffer, offset, offset + length);
+        if (invalid >= 0) {
+            CommandProgram.opcode((char) (buffer.get(invalid) & 0xFF), invalid - offset);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the byte is not a command letter
+     */
+    byte opcodeAt(int index) {
+        byte opcode = decode(index);
+        if (opcode == CommandDecoder.INVALID) {
+            CommandProgram.opcode(symbolAt(index), index);
+        }
+        return opcode;
+    }
+
+    /**
+     * Opcode of the byte at {@code index}, or {@link CommandDecoder#INVALID}.
+     */
+    byte decode(int index) {
+        return CommandDecoder.opcode((char) (buffer.get(offset + index) & 0xFF));
+    }
+
+    /**
+     * Copies the commands into a standalone {@link CommandProgram}.
+     */
+    public CommandProgram toProgram() {
+        byte[] ops = new byte[length];
+        for (int i = 0; i < length; i++) {
+            ops[i] = opcodeAt(i);
+        }
+        return CommandProgram.ofOpcodes(ops);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(commandAt(i).getSymbol());
+        }
+        return sb.toString();
+    }
+}
@@ -1,6 +1,5 @@
 package com.marsrover;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -10,36 +9,68 @@ import java.util.Set;
  * detection with blocked positions. Processes movement commands while
  * respecting defined borders and obstacles.
  * </p>
- * 
+ * <p>
+ * The pose is kept as primitive coordinates and obstacles are checked through
+ * {@link BlockerIndex}, so executing commands does not allocate. A
+ * {@link Position} is only created when {@link #getPosition()} is called.
+ * </p>
+ *
  * @author gracewee
  * @version 1.0
  * @since 1.0
  */
 public class Coordinates {
 
-    private Position position;
+    private int x;
+    private int y;
     private Direction direction;
+    private Position position; // Lazily created view of (x, y), null when stale
 
-    private Position borderMin = new Position(Integer.MIN_VALUE, Integer.MIN_VALUE);
-    private Position borderMax = new Position(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    private int minX = Integer.MIN_VALUE;
+    private int minY = Integer.MIN_VALUE;
+    private int maxX = Integer.MAX_VALUE;
+    private int maxY = Integer.MAX_VALUE;
 
-    private Set<Position> blockers = new HashSet<>();
+    private Set<Position> blockers; // Created on first getBlockers() unless set by the caller
+    private BlockerIndex blockerIndex = BlockerSets.NONE;
 
     public Coordinates(int x, int y, String dir) {
-        this.position = new Position(x, y);
+        this.x = x;
+        this.y = y;
         this.direction = Direction.fromString(dir);
     }
 
+    public Coordinates(int x, int y, Direction direction) {
+        this.x = x;
+        this.y = y;
+        this.direction = direction;
+    }
+
     public Position getPosition() {
+        if (this.position == null) {
+            this.position = new Position(x, y);
+        }
         return this.position;
     }
 
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
     public void setPosition(Position position) {
+        this.x = position.getX();
+        this.y = position.getY();
         this.position = position;
     }
 
     public void setPosition(int x, int y) {
-        this.position = new Position(x, y);
+        this.x = x;
+        this.y = y;
+        this.position = null;
     }
 
     public Direction getDirection() {
@@ -50,32 +81,78 @@ public class Coordinates {
         this.direction = direction;
     }
 
+    /**
+     * Sets the plateau borders. The rover's default blocker set is created by
+     * the first {@link #getBlockers()} call with the implementation that suits
+     * the borders at that time (see {@link BlockerSets#forBorder}); a set that
+     * was already handed out is kept, since the caller may still be adding to it.
+     */
     public void setBorder(int minX, int minY, int maxX, int maxY) {
-        this.borderMin = new Position(minX, minY);
-        this.borderMax = new Position(maxX, maxY);
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    int getMinX() {
+        return minX;
+    }
+
+    int getMinY() {
+        return minY;
+    }
+
+    int getMaxX() {
+        return maxX;
+    }
+
+    int getMaxY() {
+        return maxY;
     }
 
     public Set<Position> getBlockers() {
+        if (blockers == null) {
+            AbstractBlockerSet created = BlockerSets.forBorder(minX, minY, maxX, maxY);
+            this.blockers = created;
+            this.blockerIndex = created;
+        }
         return blockers;
     }
 
+    /**
+     * Sets the cells the rover may not enter. The set is used live, not copied.
+     * Passing a {@link BlockerIndex} implementation such as {@link PackedBlockerSet}
+     * lets moves be checked without creating {@link Position} lookups.
+     */
     public void setBlockers(Set<Position> blockers) {
         this.blockers = blockers;
+        this.blockerIndex = blockers instanceof BlockerIndex
+                ? (BlockerIndex) blockers
+                : new SetBlockerIndex(blockers);
+    }
+
+    BlockerIndex getBlockerIndex() {
+        return blockerIndex;
     }
 
     public void calculateNextMove(Command command) {
-        calculateNextMove(command.getSymbolAsString());
+        switch (command) {
+            case MOVE:
+                move();
+                break;
+            case LEFT:
+                this.direction = this.direction.turnLeft();
+                break;
+            case RIGHT:
+                this.direction = this.direction.turnRight();
+                break;
+        }
     }
 
     public void calculateNextMove(String move) {
-        char mv = move.toUpperCase().charAt(0);
+        char mv = move.isEmpty() ? ' ' : Character.toUpperCase(move.charAt(0));
         if (mv == Command.MOVE.getSymbol()) {
-            Position moved = this.position.move(this.direction);
-            if (moved.isWithinBorders(borderMin.getX(), borderMin.getY(), borderMax.getX(), borderMax.getY())) {
-                if (!blockers.contains(moved)) {
-                    this.position = moved;
-                }
-            }
+            move();
         } else if (mv == Command.LEFT.getSymbol()) {
             this.direction = this.direction.turnLeft();
         } else if (mv == Command.RIGHT.getSymbol()) {
@@ -85,8 +162,175 @@ public class Coordinates {
         }
     }
 
+    /**
+     * Runs a compiled program from the current pose.
+     * <p>
+     * Consecutive MOVE commands are executed as a single ray cast: the rover
+     * jumps straight to the cell before the nearest border or blocker, which
+     * gives the same final pose as stepping one command at a time.
+     * </p>
+     */
+    public void execute(CommandProgram program) {
+        CommandProgram.Segments segments = program.segments();
+        for (int s = 0, n = segments.count(); s < n; s++) {
+            executeRun(segments.opcode(s), segments.length(s));
+        }
+    }
+
+    /**
+     * Runs commands {@code [from, to)} of a compiled program, a run of equal commands at a time.
+     */
+    void execute(CommandProgram program, int from, int to) {
+        executeRuns(program::opcodeAt, from, to);
+    }
+
+    /**
+     * Runs commands in place from a {@link CommandSlice}, with the same
+     * run-at-a-time execution as {@link #execute(CommandProgram)}. Each byte
+     * is decoded once, which also validates it.
+     *
+     * @throws IllegalArgumentException if a byte is not a command letter; the rover is then left unmoved
+     */
+    public void execute(CommandSlice commands) {
+        int startX = x;
+        int startY = y;
+        Direction startDirection = direction;
+        int invalid = executeRuns(commands::decode, 0, commands.length());
+        if (invalid >= 0) {
+            // Leave the rover where it started, as if the slice had been validated up front
+            setPosition(startX, startY);
+            direction = startDirection;
+            commands.opcodeAt(invalid);
+        }
+    }
+
+    /**
+     * Runs 2-bit packed commands in place, with the same run-at-a-time
+     * execution as {@link #execute(CommandProgram)}.
+     */
+    public void execute(PackedCommandProgram commands) {
+        int n = commands.length();
+        int i = 0;
+        while (i < n) {
+            int end = commands.runEnd(i);
+            executeRun(commands.opcodeAt(i), end - i);
+            i = end;
+        }
+    }
+
+    /**
+     * Runs any command sequence, using the run-at-a-time paths for
+     * {@link CommandProgram}, {@link CommandSlice} and {@link PackedCommandProgram}.
+     */
+    public void execute(CommandSequence commands) {
+        if (commands instanceof CommandProgram) {
+            execute((CommandProgram) commands);
+        } else if (commands instanceof CommandSlice) {
+            execute((CommandSlice) commands);
+        } else if (commands instanceof PackedCommandProgram) {
+            execute((PackedCommandProgram) commands);
+        } else {
+            executeRuns(i -> (byte) commands.commandAt(i).ordinal(), 0, commands.length());
+        }
+    }
+
+    /**
+     * Runs opcodes {@code [from, to)} a run of equal commands at a time,
+     * reading each opcode once. Stops before the first
+     * {@link CommandDecoder#INVALID} opcode and returns its index, or returns
+     * {@code -1} once the whole range has run.
+     */
+    private int executeRuns(Opcodes opcodes, int from, int to) {
+        int i = from;
+        byte op = i < to ? opcodes.at(i) : 0;
+        while (i < to) {
+            if (op == CommandDecoder.INVALID) {
+                return i;
+            }
+            int end = i + 1;
+            byte next = op;
+            while (end < to && (next = opcodes.at(end)) == op) {
+                end++;
+            }
+            executeRun(op, end - i);
+            i = end;
+            op = next;
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    private interface Opcodes {
+        byte at(int index);
+    }
+
+    void executeRun(byte op, int length) {
+        if (op == CommandProgram.MOVE) {
+            moveRun(length);
+        } else if (op == CommandProgram.LEFT) {
+            this.direction = this.direction.rotate(-length);
+        } else {
+            this.direction = this.direction.rotate(length);
+        }
+    }
+
+    /**
+     * Runs a compiled program {@code repetitions} times in a row. Stretches
+     * that stay clear of blockers and borders are applied as whole
+     * {@link ProgramTransform}s instead of being simulated.
+     */
+    public void execute(CommandProgram program, long repetitions) {
+        RepeatedProgramExecutor.execute(this, program, repetitions);
+    }
+
+    private void moveRun(long steps) {
+        while (steps > 0) {
+            if (x < minX || x > maxX || y < minY || y > maxY) {
+                // Off the plateau: only single steps can tell whether the rover gets back on
+                if (!move()) {
+                    return;
+                }
+                steps--;
+                continue;
+            }
+            int dx = direction.getDeltaX();
+            int dy = direction.getDeltaY();
+            long toBorder = dx > 0 ? (long) maxX - x
+                    : dx < 0 ? (long) x - minX
+                    : dy > 0 ? (long) maxY - y
+                    : (long) y - minY;
+            long free = blockerIndex.freeSteps(x, y, direction, Math.min(steps, toBorder));
+            if (free > 0) {
+                this.x += (int) (dx * free);
+                this.y += (int) (dy * free);
+                this.position = null;
+                steps -= free;
+            }
+            // The next cell is blocked or past the border, unless coordinates wrap at the int range.
+            if (steps > 0) {
+                if (!move()) {
+                    return;
+                }
+                steps--;
+            }
+        }
+    }
+
+    private boolean move() {
+        int nextX = x + direction.getDeltaX();
+        int nextY = y + direction.getDeltaY();
+        if (nextX >= minX && nextX <= maxX && nextY >= minY && nextY <= maxY
+                && !blockerIndex.isBlocked(nextX, nextY)) {
+            this.x = nextX;
+            this.y = nextY;
+            this.position = null;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
-        return this.position.getX() + " " + this.position.getY() + " " + this.direction.getSymbolAsString();
+        return this.x + " " + this.y + " " + this.direction.getSymbolAsString();
     }
 }
@@ -0,0 +1,66 @@
+package com.marsrover;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Blocker set for a bounded plateau with its bitmap outside the Java heap.
+ * <p>
+ * The layout is the same as {@link GridBlockerSet}, one bit per cell in
+ * row-major order (see {@link AbstractGridBlockerSet}), but the words live
+ * in 1 GB direct or memory-mapped segments (see {@link DirectSegments})
+ * instead of a {@code long[]}. This
+ * lifts the 2^37 cell limit of a Java array, and multi-gigabyte terrain
+ * neither counts against the heap nor lengthens garbage collection pauses.
+ * A mapped bitmap can be reopened later and keeps its obstacles.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class DirectGridBlockerSet extends AbstractGridBlockerSet {
+
+    private static final int SEGMENT_SHIFT = 27; // 2^27 words = 1 GB per segment
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+
+    /**
+     * Creates a bitmap in direct buffers.
+     */
+    public DirectGridBlockerSet(int minX, int minY, int maxX, int maxY) {
+        this(minX, minY, maxX, maxY, null);
+    }
+
+    /**
+     * @param file file to map the bitmap from, or {@code null} for direct buffers.
+     *             Obstacles already stored in an existing file are kept.
+     */
+    public DirectGridBlockerSet(int minX, int minY, int maxX, int maxY, Path file) {
+        super(minX, minY, maxX, maxY);
+        if (words == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + minX + " " + minY + " " + maxX + " " + maxY);
+        }
+        DirectSegments allocator = new DirectSegments(Long.BYTES << SEGMENT_SHIFT, file);
+        int count = (int) ((words + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long segmentWords = Math.min(1L << SEGMENT_SHIFT, words - ((long) i << SEGMENT_SHIFT));
+            segments[i] = allocator.allocate(i, (int) (segmentWords * Long.BYTES));
+        }
+        if (allocator.isMapped()) {
+            recount();
+        }
+    }
+
+    @Override
+    protected long word(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) << 3);
+    }
+
+    @Override
+    protected void setWord(long index, long value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putLong((int) (index & SEGMENT_MASK) << 3, value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.marsrover;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@link PoseStore} kept outside the Java heap, in direct or memory-mapped segments.
+ * <p>
+ * Each segment holds {@code segmentRovers} poses laid out as three blocks:
+ * all x coordinates, all y coordinates, then one {@link Direction} ordinal
+ * byte per rover, 9 bytes per rover in total. Growing the store only adds
+ * segments; existing poses are never copied. With 100 million rovers the
+ * poses take about 900 MB that the garbage collector never has to trace or
+ * move, so pause times do not depend on fleet size.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class DirectPoseStore implements PoseStore {
+
+    public static final int DEFAULT_SEGMENT_ROVERS = 1 << 24;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int BYTES_PER_ROVER = 2 * Integer.BYTES + 1;
+
+    private final int shift;
+    private final int mask;
+    private final DirectSegments segments;
+    private ByteBuffer[] buffers = new ByteBuffer[0];
+
+    /**
+     * Creates a store in direct buffers with the default segment size.
+     */
+    public DirectPoseStore() {
+        this(DEFAULT_SEGMENT_ROVERS, null);
+    }
+
+    /**
+     * @param segmentRovers rovers per segment, a power of two
+     * @param file file to map the segments from, or {@code null} for direct buffers.
+     *             An existing file keeps its poses.
+     */
+    public DirectPoseStore(int segmentRovers, Path file) {
+        if (segmentRovers <= 0 || Integer.bitCount(segmentRovers) != 1
+                || (long) segmentRovers * BYTES_PER_ROVER > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentRovers + " rovers");
+        }
+        this.shift = Integer.numberOfTrailingZeros(segmentRovers);
+        this.mask = segmentRovers - 1;
+        this.segments = new DirectSegments(segmentRovers * BYTES_PER_ROVER, file);
+    }
+
+    @Override
+    public int capacity() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) buffers.length << shift);
+    }
+
+    @Override
+    public void ensureCapacity(int rovers) {
+        int needed = (int) (((long) rovers + mask) >>> shift);
+        if (needed > buffers.length) {
+            int old = buffers.length;
+            buffers = Arrays.copyOf(buffers, needed);
+            for (int i = old; i < needed; i++) {
+                buffers[i] = segments.allocate(i);
+            }
+        }
+    }
+
+    @Override
+    public int getX(int rover) {
+        return buffers[rover >>> shift].getInt((rover & mask) << 2);
+    }
+
+    @Override
+    public int getY(int rover) {
+        return buffers[rover >>> shift].getInt((mask + 1 + (rover & mask)) << 2);
+    }
+
+    @Override
+    public Direction getDirection(int rover) {
+        return DIRECTIONS[buffers[rover >>> shift].get(((mask + 1) << 3) + (rover & mask))];
+    }
+
+    @Override
+    public void set(int rover, int x, int y, Direction direction) {
+        ByteBuffer buffer = buffers[rover >>> shift];
+        int slot = rover & mask;
+        buffer.putInt(slot << 2, x);
+        buffer.putInt((mask + 1 + slot) << 2, y);
+        buffer.put(((mask + 1) << 3) + slot, (byte) direction.ordinal());
+    }
+}
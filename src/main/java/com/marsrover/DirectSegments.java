@@ -0,0 +1,72 @@
+package com.marsrover;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Allocates fixed-size off-heap segments, either with
+ * {@link ByteBuffer#allocateDirect} or as consecutive memory-mapped regions of one file.
+ * <p>
+ * A {@link ByteBuffer} is limited to 2 GB, so large stores are split into
+ * segments. Direct and mapped memory is outside the Java heap, so the garbage
+ * collector neither copies nor scans it. Mapped segments keep the existing
+ * contents of the file and extend it as needed.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class DirectSegments {
+
+    private final int segmentBytes;
+    private final Path file;
+
+    /**
+     * @param file file to map segments from, or {@code null} for direct buffers
+     */
+    DirectSegments(int segmentBytes, Path file) {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentBytes);
+        }
+        this.segmentBytes = segmentBytes;
+        this.file = file;
+    }
+
+    int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    boolean isMapped() {
+        return file != null;
+    }
+
+    /**
+     * Returns segment {@code index}, in native byte order.
+     */
+    ByteBuffer allocate(int index) {
+        return allocate(index, segmentBytes);
+    }
+
+    /**
+     * Returns the first {@code bytes} bytes of segment {@code index}, for a last segment that is not full.
+     */
+    ByteBuffer allocate(int index, int bytes) {
+        if (file == null) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, (long) index * segmentBytes, bytes)
+                    .order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map segment " + index + " of " + file, e);
+        }
+    }
+}
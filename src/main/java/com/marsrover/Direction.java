@@ -23,6 +23,14 @@ public enum Direction {
 
     private static final Direction[] VALUES = values(); // Cache for rotation
     private static final int SIZE = VALUES.length;
+    private static final Direction[] BY_CHAR = new Direction[256]; // Both cases of each symbol, null elsewhere
+
+    static {
+        for (Direction dir : VALUES) {
+            BY_CHAR[dir.symbol] = dir;
+            BY_CHAR[Character.toLowerCase(dir.symbol)] = dir;
+        }
+    }
 
     Direction(int deltaX, int deltaY, char symbol) {
         this.deltaX = deltaX;
@@ -56,15 +64,22 @@ public enum Direction {
         return VALUES[(ordinal() + 1) % SIZE];
     }
 
+    /**
+     * Rotates by a number of quarter turns, positive to the right and negative to the left.
+     */
+    public Direction rotate(int quarterTurns) {
+        return VALUES[(ordinal() + Math.floorMod(quarterTurns, SIZE)) % SIZE];
+    }
+
     // Static factory methods
     public static Direction fromChar(char c) {
-        char upper = Character.toUpperCase(c);
-        for (Direction dir : VALUES) {
-            if (dir.symbol == upper) {
-                return dir;
-            }
+        // Beyond Latin-1 only case mapping can produce a symbol (e.g. U+017F long s)
+        char key = c < BY_CHAR.length ? c : Character.toUpperCase(c);
+        Direction dir = key < BY_CHAR.length ? BY_CHAR[key] : null;
+        if (dir == null) {
+            throw new IllegalArgumentException("Invalid direction: " + c);
         }
-        throw new IllegalArgumentException("Invalid direction: " + c);
+        return dir;
     }
 
     public static Direction fromString(String s) {
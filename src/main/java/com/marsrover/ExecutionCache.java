@@ -0,0 +1,178 @@
+package com.marsrover;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of program results, for replanning loops that run the same
+ * program from the same pose over and over.
+ * <p>
+ * An entry maps the start pose, the program, the border and the identity and
+ * {@link BlockerIndex#version() version} of the rover's blockers to the final
+ * pose. Blocker sets bump their version on every change, and
+ * {@link Coordinates#setBlockers} switches to another index with its own id,
+ * so an entry is only ever returned for exactly the obstacles it was computed
+ * with. Outdated entries are never hit again and age out through LRU
+ * eviction once the cache is full. Rovers whose blockers do not track versions
+ * (a plain {@link java.util.Set}) bypass the cache.
+ * </p>
+ * <p>
+ * The entries and counters are guarded by the cache's monitor, but programs
+ * run outside it, so one cache can be shared by several threads. The version
+ * is read again after a run, and the result is only stored if the blockers
+ * did not change while the program was running.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class ExecutionCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, Result> entries;
+    private long hits;
+    private long misses;
+
+    public ExecutionCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid cache size: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+                return size() > ExecutionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Runs {@code program} on {@code rover}, or moves the rover straight to the
+     * cached final pose if the same run was seen before.
+     */
+    public void execute(Coordinates rover, CommandProgram program) {
+        BlockerIndex blockers = rover.getBlockerIndex();
+        long id = blockers.id();
+        long version = blockers.version();
+        if (id == BlockerIndex.UNVERSIONED || version == BlockerIndex.UNVERSIONED) {
+            rover.execute(program);
+            return;
+        }
+        Key key = new Key(rover.getX(), rover.getY(), rover.getDirection(), program,
+                rover.getMinX(), rover.getMinY(), rover.getMaxX(), rover.getMaxY(), id, version);
+        Result cached;
+        synchronized (this) {
+            cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (cached != null) {
+            rover.setPosition(cached.x, cached.y);
+            rover.setDirection(cached.direction);
+            return;
+        }
+        rover.execute(program);
+        if (rover.getBlockerIndex() != blockers || blockers.version() != version) {
+            return;
+        }
+        Result result = new Result(rover.getX(), rover.getY(), rover.getDirection());
+        synchronized (this) {
+            entries.put(key, result);
+        }
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ExecutionCache[size=" + entries.size() + ", hits=" + hits + ", misses=" + misses + "]";
+    }
+
+    private static final class Key {
+        private final int x;
+        private final int y;
+        private final Direction direction;
+        private final CommandProgram program;
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+        private final long blockersId;
+        private final long blockersVersion;
+        private final int hashCode;
+
+        Key(int x, int y, Direction direction, CommandProgram program,
+            int minX, int minY, int maxX, int maxY, long blockersId, long blockersVersion) {
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+            this.program = program;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.blockersId = blockersId;
+            this.blockersVersion = blockersVersion;
+            int h = 31 * x + y;
+            h = 31 * h + direction.ordinal();
+            h = 31 * h + program.hashCode();
+            h = 31 * h + minX;
+            h = 31 * h + minY;
+            h = 31 * h + maxX;
+            h = 31 * h + maxY;
+            h = 31 * h + Long.hashCode(blockersId);
+            this.hashCode = 31 * h + Long.hashCode(blockersVersion); // Combined by hand, without boxing
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && x == other.x && y == other.y && direction == other.direction
+                    && minX == other.minX && minY == other.minY && maxX == other.maxX && maxY == other.maxY
+                    && blockersId == other.blockersId && blockersVersion == other.blockersVersion
+                    && program.equals(other.program);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Result {
+        private final int x;
+        private final int y;
+        private final Direction direction;
+
+        Result(int x, int y, Direction direction) {
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+        }
+    }
+}
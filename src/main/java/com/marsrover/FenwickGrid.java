@@ -0,0 +1,88 @@
+package com.marsrover;
+
+/**
+ * Two-dimensional Fenwick tree (binary indexed tree) of blocked-cell counts.
+ * <p>
+ * Entry {@code (x, y)} holds the sum of a block of counts whose size is
+ * given by the lowest set bits of {@code x} and {@code y}, so both a single
+ * count change and the sum over the rectangle {@code [0, x] x [0, y]} touch
+ * {@code O(log width * log height)} entries, and any rectangle is four such
+ * prefix sums. {@link GridBlockerSet} keeps one count per block of cells,
+ * builds the tree once in linear time and then keeps it current on every
+ * block and unblock.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class FenwickGrid {
+
+    private final int width;
+    private final int height;
+    private final long[] tree; // 1-based (x, y) at (y - 1) * width + (x - 1)
+
+    private FenwickGrid(int width, int height, long[] tree) {
+        this.width = width;
+        this.height = height;
+        this.tree = tree;
+    }
+
+    /**
+     * Builds the tree in place from row-major counts of {@code width x height} entries.
+     */
+    static FenwickGrid build(long[] counts, int width, int height) {
+        // Linear-time build: push each entry into its parent, first along rows, then along columns
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 1; x <= width; x++) {
+                int parent = x + (x & -x);
+                if (parent <= width) {
+                    counts[row + parent - 1] += counts[row + x - 1];
+                }
+            }
+        }
+        for (int y = 1; y <= height; y++) {
+            int parent = y + (y & -y);
+            if (parent <= height) {
+                int from = (y - 1) * width;
+                int to = (parent - 1) * width;
+                for (int x = 0; x < width; x++) {
+                    counts[to + x] += counts[from + x];
+                }
+            }
+        }
+        return new FenwickGrid(width, height, counts);
+    }
+
+    /**
+     * Adds {@code delta} to entry {@code (x, y)}, counting from 0.
+     */
+    void add(int x, int y, int delta) {
+        for (int j = y + 1; j <= height; j += j & -j) {
+            int row = (j - 1) * width - 1;
+            for (int i = x + 1; i <= width; i += i & -i) {
+                tree[row + i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Sum of the entries in {@code [minX, maxX] x [minY, maxY]}, counting from 0.
+     */
+    long count(int minX, int minY, int maxX, int maxY) {
+        return prefix(maxX + 1, maxY + 1) - prefix(minX, maxY + 1) - prefix(maxX + 1, minY) + prefix(minX, minY);
+    }
+
+    // Entries in [0, x) x [0, y).
+    private long prefix(int x, int y) {
+        long sum = 0;
+        for (int j = y; j > 0; j -= j & -j) {
+            int row = (j - 1) * width - 1;
+            for (int i = x; i > 0; i -= i & -i) {
+                sum += tree[row + i];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,268 @@
+package com.marsrover;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A whole fleet of rovers stored as parallel primitive arrays.
+ * <p>
+ * Rover {@code i} is {@code x[i]}, {@code y[i]} and the {@link Direction}
+ * ordinal {@code dir[i]}; its program is the opcode range
+ * {@code [offsets[i], offsets[i + 1])} of one shared command buffer. That is
+ * 9 bytes of pose and 4 bytes of program offset per rover, against a
+ * {@link Coordinates} object, its {@link Position} and its own blocker state
+ * for the object-per-rover model. The batch methods walk the arrays in order
+ * and move a single reusable {@link Coordinates} cursor through them, so
+ * executing the fleet allocates nothing per rover.
+ * </p>
+ * <p>
+ * Poses are accessed through a {@link PoseStore}: heap arrays by default, or
+ * a {@link DirectPoseStore} to keep very large fleets off the Java heap.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class Fleet {
+
+    // Checked here so that VectorFleetStepper is never loaded without the incubator module
+    static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private int size;
+    private final PoseStore poses;
+    private int[] offsets; // size + 1 entries; program i is commands[offsets[i]..offsets[i + 1])
+    private byte[] commands;
+    private SwarmBitmap swarmBitmap; // Obstacles of the last executeSwarm, reused while they are unchanged
+    private int[] swarmOps = new int[0]; // Widened opcodes of one lane group, reused by executeSwarm
+
+    public Fleet() {
+        this(16, 256);
+    }
+
+    public Fleet(int expectedRovers, int expectedCommands) {
+        this(new ArrayPoseStore(expectedRovers), expectedCommands);
+    }
+
+    /**
+     * Creates an empty fleet that keeps its poses in {@code poses}. Any poses
+     * already in the store are overwritten as rovers are added.
+     */
+    public Fleet(PoseStore poses, int expectedCommands) {
+        this.poses = poses;
+        this.offsets = new int[Math.max(1, poses.capacity()) + 1];
+        this.commands = new byte[Math.max(1, expectedCommands)];
+    }
+
+    public void add(Mission mission) {
+        CommandProgram program = mission.getProgram();
+        int start = beginRover(mission.getX(), mission.getY(), mission.getDirection(), program.length());
+        for (int i = 0, n = program.length(); i < n; i++) {
+            commands[start + i] = program.opcodeAt(i);
+        }
+    }
+
+    /**
+     * Adds a rover, validating and compiling its commands straight into the shared buffer.
+     *
+     * @throws IllegalArgumentException if the commands contain anything other than L, R and M
+     */
+    public void add(int x, int y, Direction direction, CharSequence commands) {
+        int length = commands.length();
+        int start = beginRover(x, y, direction, length);
+        try {
+            for (int i = 0; i < length; i++) {
+                this.commands[start + i] = CommandProgram.opcode(commands.charAt(i), i);
+            }
+        } catch (IllegalArgumentException e) {
+            size--;
+            throw e;
+        }
+    }
+
+    private int beginRover(int x, int y, Direction direction, int programLength) {
+        if (size == Integer.MAX_VALUE - 9) {
+            throw new IllegalArgumentException("Fleet full: " + size + " rovers");
+        }
+        poses.ensureCapacity(size + 1);
+        if (size + 1 == offsets.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * offsets.length);
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+        }
+        int start = offsets[size];
+        long end = (long) start + programLength;
+        if (end > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Fleet command buffer full: " + end + " commands");
+        }
+        if (end > commands.length) {
+            commands = Arrays.copyOf(commands, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(end, 2L * commands.length)));
+        }
+        poses.set(size, x, y, direction);
+        offsets[++size] = (int) end;
+        return start;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getX(int rover) {
+        return poses.getX(checkIndex(rover));
+    }
+
+    public int getY(int rover) {
+        return poses.getY(checkIndex(rover));
+    }
+
+    public Direction getDirection(int rover) {
+        return poses.getDirection(checkIndex(rover));
+    }
+
+    public int getProgramLength(int rover) {
+        checkIndex(rover);
+        return offsets[rover + 1] - offsets[rover];
+    }
+
+    /**
+     * Total number of commands in the shared buffer.
+     */
+    public int getCommandCount() {
+        return offsets[size];
+    }
+
+    private int checkIndex(int rover) {
+        if (rover < 0 || rover >= size) {
+            throw new IndexOutOfBoundsException("Rover " + rover + " out of range 0.." + size);
+        }
+        return rover;
+    }
+
+    /**
+     * Runs every rover in order, like the command-line application: each
+     * rover is blocked by {@code blockers}, which already contains the final
+     * positions of the rovers before it, and its own final position is added
+     * once it is done. Poses are updated in place.
+     */
+    public void executeSequentially(int minX, int minY, int maxX, int maxY, Set<Position> blockers) {
+        Coordinates cursor = cursor(minX, minY, maxX, maxY, blockers);
+        BlockerIndex index = cursor.getBlockerIndex();
+        boolean primitive = blockers instanceof BlockerIndex;
+        for (int i = 0; i < size; i++) {
+            run(cursor, i);
+            if (primitive) {
+                index.block(poses.getX(i), poses.getY(i));
+            } else {
+                blockers.add(new Position(poses.getX(i), poses.getY(i)));
+            }
+        }
+    }
+
+    /**
+     * Runs every rover against {@code obstacles} only, ignoring the other
+     * rovers. Poses are updated in place and the obstacles are not changed.
+     */
+    public void executeIndependently(int minX, int minY, int maxX, int maxY, Set<Position> obstacles) {
+        Coordinates cursor = cursor(minX, minY, maxX, maxY, obstacles);
+        for (int i = 0; i < size; i++) {
+            run(cursor, i);
+        }
+    }
+
+    /**
+     * Same result as {@link #executeIndependently}, but the whole fleet is
+     * stepped in lockstep with SIMD instructions by {@link VectorFleetStepper}
+     * when the {@code jdk.incubator.vector} module is available (start the JVM
+     * with {@code --add-modules jdk.incubator.vector}) and the plateau has at
+     * most 2^31 cells, and the poses are in an {@link ArrayPoseStore}.
+     * Otherwise this falls back to the scalar path. The obstacle bitmap is
+     * kept between calls and only rebuilt when the border or the
+     * {@link BlockerIndex#version() version} of the obstacles changes; plain
+     * sets, which have no version, are copied on every call.
+     */
+    public void executeSwarm(int minX, int minY, int maxX, int maxY, Set<Position> obstacles) {
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        if (VECTOR_AVAILABLE && cells > 0 && cells <= Integer.MAX_VALUE && poses instanceof ArrayPoseStore) {
+            ArrayPoseStore arrays = (ArrayPoseStore) poses;
+            swarmOps = VectorFleetStepper.execute(size, arrays.xs(), arrays.ys(), arrays.dirs(), offsets, commands,
+                    minX, minY, maxX, maxY, swarmBitmap(minX, minY, maxX, maxY, obstacles), swarmOps);
+        } else {
+            executeIndependently(minX, minY, maxX, maxY, obstacles);
+        }
+    }
+
+    private int[] swarmBitmap(int minX, int minY, int maxX, int maxY, Set<Position> obstacles) {
+        long id = BlockerIndex.UNVERSIONED;
+        long version = BlockerIndex.UNVERSIONED;
+        if (obstacles instanceof BlockerIndex) {
+            id = ((BlockerIndex) obstacles).id();
+            version = ((BlockerIndex) obstacles).version();
+        }
+        SwarmBitmap cached = swarmBitmap;
+        if (cached != null && id != BlockerIndex.UNVERSIONED && version != BlockerIndex.UNVERSIONED
+                && cached.id == id && cached.version == version
+                && cached.minX == minX && cached.minY == minY && cached.maxX == maxX && cached.maxY == maxY) {
+            return cached.bits;
+        }
+        int[] bits = VectorFleetStepper.bitmap(minX, minY, maxX, maxY, obstacles);
+        swarmBitmap = new SwarmBitmap(minX, minY, maxX, maxY, id, version, bits);
+        return bits;
+    }
+
+    private static Coordinates cursor(int minX, int minY, int maxX, int maxY, Set<Position> blockers) {
+        Coordinates cursor = new Coordinates(0, 0, Direction.NORTH);
+        cursor.setBorder(minX, minY, maxX, maxY);
+        cursor.setBlockers(blockers);
+        return cursor;
+    }
+
+    private void run(Coordinates cursor, int rover) {
+        cursor.setPosition(poses.getX(rover), poses.getY(rover));
+        cursor.setDirection(poses.getDirection(rover));
+        int i = offsets[rover];
+        int end = offsets[rover + 1];
+        while (i < end) {
+            byte op = commands[i];
+            int runEnd = i + 1;
+            while (runEnd < end && commands[runEnd] == op) {
+                runEnd++;
+            }
+            cursor.executeRun(op, runEnd - i);
+            i = runEnd;
+        }
+        poses.set(rover, cursor.getX(), cursor.getY(), cursor.getDirection());
+    }
+
+    /**
+     * Creates a standalone {@link Coordinates} with the current pose of one rover.
+     */
+    public Coordinates toCoordinates(int rover) {
+        return new Coordinates(getX(rover), getY(rover), getDirection(rover));
+    }
+
+    /**
+     * Same format as {@link Coordinates#toString()}.
+     */
+    public String poseToString(int rover) {
+        return getX(rover) + " " + getY(rover) + " " + getDirection(rover).getSymbolAsString();
+    }
+
+    private static final class SwarmBitmap {
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+        private final long id;
+        private final long version;
+        private final int[] bits;
+
+        SwarmBitmap(int minX, int minY, int maxX, int maxY, long id, long version, int[] bits) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.id = id;
+            this.version = version;
+            this.bits = bits;
+        }
+    }
+}
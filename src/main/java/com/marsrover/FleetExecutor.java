@@ -0,0 +1,206 @@
+package com.marsrover;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a fleet of missions in parallel with the same result as running them one after another.
+ * <p>
+ * Sequentially, each rover treats the final positions of all earlier rovers
+ * as blockers. A rover can only end up inside its reachable box (its start
+ * cell widened by its number of MOVE commands, clipped to the border), so a
+ * rover only depends on earlier rovers whose boxes overlap its own. The
+ * plane is cut into square buckets about the size of an average box, and a
+ * rover is linked only to the latest earlier rover in each bucket its box
+ * touches: that rover is in turn linked to the one before it, so ordering
+ * after the nearest conflict per bucket orders after all of them. The links
+ * are kept as int arrays in compressed sparse row form. Rovers are grouped
+ * into waves where every rover's links are in earlier waves, and each wave
+ * runs in parallel on a {@link ForkJoinPool}. All rovers of a wave read the
+ * shared obstacles plus the final positions of every earlier wave through
+ * one {@link LayeredBlockerSet}, which is only extended between waves.
+ * </p>
+ * <p>
+ * The obstacle set is only read, never modified; callers that keep going
+ * sequentially afterwards add the returned final positions themselves.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetExecutor {
+
+    private final ForkJoinPool pool;
+
+    public FleetExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public FleetExecutor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Runs all missions and returns each rover's final state, in mission order.
+     * The returned rovers share one blocker layer holding every final position.
+     */
+    public List<Coordinates> run(List<Mission> missions, int minX, int minY, int maxX, int maxY,
+                                 Set<Position> obstacles) {
+        int n = missions.size();
+        long[][] boxes = new long[n][];
+        for (int i = 0; i < n; i++) {
+            boxes[i] = reachableBox(missions.get(i), minX, minY, maxX, maxY);
+        }
+        Dependencies dependencies = dependencies(boxes);
+
+        int[] wave = new int[n];
+        int waves = 0;
+        for (int i = 0; i < n; i++) {
+            for (int k = dependencies.offsets[i]; k < dependencies.offsets[i + 1]; k++) {
+                wave[i] = Math.max(wave[i], wave[dependencies.targets[k]] + 1);
+            }
+            waves = Math.max(waves, wave[i] + 1);
+        }
+        int[][] byWave = groupByWave(wave, waves);
+
+        // Any earlier rover whose final position lies in a rover's box is in an earlier wave,
+        // and any later rover that could end there is in a later one.
+        LayeredBlockerSet finals = new LayeredBlockerSet(obstacles);
+        Coordinates[] results = new Coordinates[n];
+        for (int[] rovers : byWave) {
+            pool.submit(() -> IntStream.of(rovers).parallel().forEach(i -> {
+                Mission mission = missions.get(i);
+                Coordinates rover = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+                rover.setBorder(minX, minY, maxX, maxY);
+                rover.setBlockers(finals);
+                rover.execute(mission.getProgram());
+                results[i] = rover;
+            })).join();
+            for (int i : rovers) {
+                finals.block(results[i].getX(), results[i].getY());
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    // Bounding box {minX, minY, maxX, maxY} of every cell the rover can occupy.
+    static long[] reachableBox(Mission mission, int minX, int minY, int maxX, int maxY) {
+        long moves = 0;
+        CommandProgram program = mission.getProgram();
+        CommandProgram.Segments segments = program.segments();
+        for (int s = 0, n = segments.count(); s < n; s++) {
+            if (segments.opcode(s) == CommandProgram.MOVE) {
+                moves += segments.length(s);
+            }
+        }
+        long x = mission.getX();
+        long y = mission.getY();
+        // Moves only ever enter cells inside the border; the start cell may lie outside it.
+        return new long[]{
+                Math.min(x, Math.max(minX, x - moves)),
+                Math.min(y, Math.max(minY, y - moves)),
+                Math.max(x, Math.min(maxX, x + moves)),
+                Math.max(y, Math.min(maxY, y + moves))};
+    }
+
+    /**
+     * Links each rover to the latest earlier rover of every bucket its box
+     * touches. Buckets are squares of the average box size over the union of
+     * the boxes, with at most about four per rover.
+     */
+    static Dependencies dependencies(long[][] boxes) {
+        int n = boxes.length;
+        if (n == 0) {
+            return new Dependencies(new int[1], new int[0]);
+        }
+        long fromX = Long.MAX_VALUE;
+        long fromY = Long.MAX_VALUE;
+        long toX = Long.MIN_VALUE;
+        long toY = Long.MIN_VALUE;
+        double extent = 0;
+        for (long[] box : boxes) {
+            fromX = Math.min(fromX, box[0]);
+            fromY = Math.min(fromY, box[1]);
+            toX = Math.max(toX, box[2]);
+            toY = Math.max(toY, box[3]);
+            extent += Math.max(box[2] - box[0], box[3] - box[1]) + 1;
+        }
+        double area = (double) (toX - fromX + 1) * (toY - fromY + 1);
+        long side = Math.max(1, (long) Math.max(extent / n, Math.ceil(Math.sqrt(area / (4.0 * n)))));
+        long columns;
+        long rows;
+        while ((columns = (toX - fromX) / side + 1) * (rows = (toY - fromY) / side + 1) > 4L * n + 4) {
+            side *= 2;
+        }
+        int[] latest = new int[(int) (columns * rows)];
+        Arrays.fill(latest, -1);
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[Math.max(16, n)];
+        int[] seenBy = new int[n];
+        Arrays.fill(seenBy, -1);
+        int edges = 0;
+        for (int i = 0; i < n; i++) {
+            long[] box = boxes[i];
+            int firstColumn = (int) ((box[0] - fromX) / side);
+            int lastColumn = (int) ((box[2] - fromX) / side);
+            int firstRow = (int) ((box[1] - fromY) / side);
+            int lastRow = (int) ((box[3] - fromY) / side);
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int bucket = (int) (row * columns + column);
+                    int other = latest[bucket];
+                    latest[bucket] = i;
+                    if (other >= 0 && seenBy[other] != i) {
+                        seenBy[other] = i;
+                        if (edges == targets.length) {
+                            targets = Arrays.copyOf(targets, edges * 2);
+                        }
+                        targets[edges++] = other;
+                    }
+                }
+            }
+            Arrays.sort(targets, offsets[i], edges);
+            offsets[i + 1] = edges;
+        }
+        return new Dependencies(offsets, Arrays.copyOf(targets, edges));
+    }
+
+    /**
+     * Dependency lists in compressed sparse row form: rover {@code i} depends
+     * on {@code targets[offsets[i]]} up to {@code targets[offsets[i + 1] - 1]}.
+     */
+    static final class Dependencies {
+        final int[] offsets;
+        final int[] targets;
+
+        Dependencies(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        int[] of(int rover) {
+            return Arrays.copyOfRange(targets, offsets[rover], offsets[rover + 1]);
+        }
+    }
+
+    private static int[][] groupByWave(int[] wave, int waves) {
+        int[] sizes = new int[waves];
+        for (int w : wave) {
+            sizes[w]++;
+        }
+        int[][] byWave = new int[waves][];
+        for (int w = 0; w < waves; w++) {
+            byWave[w] = new int[sizes[w]];
+            sizes[w] = 0;
+        }
+        for (int i = 0; i < wave.length; i++) {
+            byWave[wave[i]][sizes[wave[i]]++] = i;
+        }
+        return byWave;
+    }
+}
@@ -0,0 +1,179 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * Blocker set for a bounded plateau, stored as one bit per cell.
+ * <p>
+ * Cells inside {@code [minX, maxX] x [minY, maxY]} map to bit
+ * {@code (y - minY) * width + (x - minX)} of a {@code long[]} bitmap (see
+ * {@link AbstractGridBlockerSet}), so a lookup is a bounds check and a single
+ * bit test. A 20k x 20k plateau takes about 50 MB regardless of how many
+ * cells are blocked. Cells outside the rectangle (for example rovers that
+ * started off the plateau) are kept in a small {@link AxisBlockerSet}.
+ * </p>
+ * <p>
+ * {@link #isRegionClear} for rectangles wider than a few words is answered
+ * from a {@link FenwickGrid} of blocked-cell counts in
+ * {@code O(log width * log height)}. The tree has at most
+ * {@value #MAX_TABLE_ENTRIES} entries of one {@code long} each (16 MB): grids
+ * up to that many cells get one count per cell and an exact answer, larger
+ * ones one count per square block of cells, the smallest power-of-two side
+ * that fits (2 x 2 for a 2000 x 2000 plateau, 8 x 8 for 10000 x 10000). Then
+ * a rectangle whose blocks hold no obstacle is clear, one whose fully
+ * covered blocks hold an obstacle is not, and only the partial blocks along
+ * its edges are scanned. The tree is built once, under a lock, by the first
+ * such query, and from then on every block and unblock keeps it current at
+ * the same cost. Queries only read the set, so several threads can run them
+ * at once as long as nothing modifies it.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class GridBlockerSet extends AbstractGridBlockerSet {
+
+    static final int MAX_TABLE_ENTRIES = 1 << 21;
+
+    // Rectangles covering at most this many bitmap words are scanned instead of counted
+    static final int MAX_SCAN_WORDS = 64;
+
+    private final long[] bits;
+
+    private final int tableShift; // Each tree entry counts a 2^tableShift square of cells
+    private final int tableWidth;
+    private final int tableHeight;
+    private final Object tableLock = new Object();
+    private volatile FenwickGrid table;
+
+    public GridBlockerSet(int minX, int minY, int maxX, int maxY) {
+        super(minX, minY, maxX, maxY);
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid too large: " + cellCount(minX, minY, maxX, maxY) + " cells");
+        }
+        this.bits = new long[(int) words];
+        long height = (long) maxY - minY + 1;
+        int shift = 0;
+        while (blocks(width, shift) * blocks(height, shift) > MAX_TABLE_ENTRIES) {
+            shift++;
+        }
+        this.tableShift = shift;
+        this.tableWidth = (int) blocks(width, shift);
+        this.tableHeight = (int) blocks(height, shift);
+    }
+
+    private static long blocks(long cells, int shift) {
+        return ((cells - 1) >>> shift) + 1;
+    }
+
+    /**
+     * Number of cells in the rectangle, or {@code -1} if the bounds are empty.
+     */
+    public static long cellCount(int minX, int minY, int maxX, int maxY) {
+        if (maxX < minX || maxY < minY) {
+            return -1;
+        }
+        long w = (long) maxX - minX + 1;
+        long h = (long) maxY - minY + 1;
+        return Math.multiplyHigh(w, h) != 0 ? Long.MAX_VALUE : w * h;
+    }
+
+    @Override
+    protected long word(long index) {
+        return bits[(int) index];
+    }
+
+    @Override
+    protected void setWord(long index, long value) {
+        bits[(int) index] = value;
+    }
+
+    @Override
+    protected void cellChanged(int x, int y, boolean blocked) {
+        FenwickGrid current = table;
+        if (current != null) {
+            current.add((int) ((x - (long) minX) >>> tableShift), (int) ((y - (long) minY) >>> tableShift),
+                    blocked ? 1 : -1);
+        }
+    }
+
+    /**
+     * Counts the rectangle's blocks in the {@link FenwickGrid} and scans only
+     * the partial blocks along its edges; rectangles of only a few words are
+     * scanned row by row a word at a time.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (insideCount() == 0
+                || minX < this.minX || maxX > this.maxX || minY < this.minY || maxY > this.maxY
+                || ((long) maxY - minY + 1) * (((long) maxX - minX + 64) >>> 6) <= MAX_SCAN_WORDS) {
+            return super.isRegionClear(minX, minY, maxX, maxY);
+        }
+        long fromX = minX - (long) this.minX;
+        long fromY = minY - (long) this.minY;
+        long toX = maxX - (long) this.minX;
+        long toY = maxY - (long) this.minY;
+        FenwickGrid counts = table();
+        if (counts.count((int) (fromX >>> tableShift), (int) (fromY >>> tableShift),
+                (int) (toX >>> tableShift), (int) (toY >>> tableShift)) == 0) {
+            return true;
+        }
+        if (tableShift == 0) {
+            return false;
+        }
+        // Blocks entirely inside the rectangle
+        long mask = (1L << tableShift) - 1;
+        int innerFromX = (int) ((fromX + mask) >>> tableShift);
+        int innerFromY = (int) ((fromY + mask) >>> tableShift);
+        int innerToX = (int) (((toX + 1) >>> tableShift) - 1);
+        int innerToY = (int) (((toY + 1) >>> tableShift) - 1);
+        if (innerFromX > innerToX || innerFromY > innerToY) {
+            return super.isRegionClear(minX, minY, maxX, maxY);
+        }
+        if (counts.count(innerFromX, innerFromY, innerToX, innerToY) > 0) {
+            return false;
+        }
+        int innerMinX = (int) (this.minX + ((long) innerFromX << tableShift));
+        int innerMinY = (int) (this.minY + ((long) innerFromY << tableShift));
+        int innerMaxX = (int) (this.minX + ((long) (innerToX + 1) << tableShift) - 1);
+        int innerMaxY = (int) (this.minY + ((long) (innerToY + 1) << tableShift) - 1);
+        return (minY == innerMinY || super.isRegionClear(minX, minY, maxX, innerMinY - 1))
+                && (maxY == innerMaxY || super.isRegionClear(minX, innerMaxY + 1, maxX, maxY))
+                && (minX == innerMinX || super.isRegionClear(minX, innerMinY, innerMinX - 1, innerMaxY))
+                && (maxX == innerMaxX || super.isRegionClear(innerMaxX + 1, innerMinY, maxX, innerMaxY));
+    }
+
+    private FenwickGrid table() {
+        FenwickGrid current = table;
+        if (current == null) {
+            synchronized (tableLock) {
+                current = table;
+                if (current == null) {
+                    current = buildTable();
+                    table = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private FenwickGrid buildTable() {
+        long[] counts = new long[tableWidth * tableHeight];
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                long bit = ((long) w << 6) + Long.numberOfTrailingZeros(word);
+                long x = bit % width;
+                long y = bit / width;
+                counts[(int) (y >>> tableShift) * tableWidth + (int) (x >>> tableShift)]++;
+            }
+        }
+        return FenwickGrid.build(counts, tableWidth, tableHeight);
+    }
+
+    @Override
+    protected void clearWords() {
+        Arrays.fill(bits, 0L);
+        table = null;
+    }
+}
@@ -0,0 +1,286 @@
+package com.marsrover;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Blocker set that stores walls as merged intervals of blocked cells in their own row or column.
+ * <p>
+ * Built for imported terrain with long walls and cliff edges: a horizontal
+ * wall of any length is a single interval in its row and a vertical one a
+ * single interval in its column, added in one call with {@link #blockRow} or
+ * {@link #blockColumn}, so memory grows with the number of wall segments
+ * rather than their length. Every blocked cell belongs to exactly one
+ * interval; single cells go to their row. Membership is a binary search in
+ * the cell's row and one in its column.
+ * </p>
+ * <p>
+ * A ray finds the next blocked cell on its own line with one binary search,
+ * and the walls that cross it by walking the sorted keys of the other axis
+ * between the start and that cell, with one binary search per line, so a
+ * long MOVE run ends at a wall in time that depends on the walls in its way
+ * and not on its length. Lines are kept in {@link IntObjectMap}s keyed by
+ * the row or column, with the keys in use also kept sorted in an
+ * {@link IntervalList}.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class IntervalBlockerSet extends AbstractBlockerSet {
+
+    private final IntObjectMap<IntervalList> rows = new IntObjectMap<>(); // y -> x intervals
+    private final IntObjectMap<IntervalList> columns = new IntObjectMap<>(); // x -> y intervals
+    private IntervalList rowKeys = new IntervalList();
+    private IntervalList columnKeys = new IntervalList();
+    private long size;
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        IntervalList row = rows.get(y);
+        if (row != null && row.contains(x)) {
+            return true;
+        }
+        IntervalList column = columns.get(x);
+        return column != null && column.contains(y);
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        if (isBlocked(x, y)) {
+            return false;
+        }
+        line(rows, rowKeys, y).add(x, x);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Blocks the cells {@code fromX..toX} of row {@code y}.
+     *
+     * @return the number of cells that were not blocked before
+     * @throws IllegalArgumentException if {@code fromX > toX}
+     */
+    public long blockRow(int y, int fromX, int toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Invalid row range: " + fromX + ".." + toX);
+        }
+        long added = line(rows, rowKeys, y).add(fromX, toX) - take(columns, columnKeys, y, fromX, toX);
+        if (added > 0) {
+            size += added;
+            modCount++;
+        }
+        return added;
+    }
+
+    /**
+     * Blocks the cells {@code fromY..toY} of column {@code x}.
+     *
+     * @return the number of cells that were not blocked before
+     * @throws IllegalArgumentException if {@code fromY > toY}
+     */
+    public long blockColumn(int x, int fromY, int toY) {
+        if (fromY > toY) {
+            throw new IllegalArgumentException("Invalid column range: " + fromY + ".." + toY);
+        }
+        long added = line(columns, columnKeys, x).add(fromY, toY) - take(rows, rowKeys, x, fromY, toY);
+        if (added > 0) {
+            size += added;
+            modCount++;
+        }
+        return added;
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        if (!remove(rows, rowKeys, y, x) && !remove(columns, columnKeys, x, y)) {
+            return false;
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Number of blocked cells, capped at {@link Integer#MAX_VALUE}.
+     */
+    @Override
+    public int count() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Number of intervals over all rows and columns, a measure of the memory used.
+     */
+    public long getIntervalCount() {
+        return intervalCount(rows) + intervalCount(columns);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        rows.clear();
+        columns.clear();
+        rowKeys = new IntervalList();
+        columnKeys = new IntervalList();
+        size = 0;
+    }
+
+    @Override
+    public long freeSteps(int x, int y, Direction direction, long limit) {
+        boolean horizontal = direction.getDeltaY() == 0;
+        int along = horizontal ? x : y;
+        int across = horizontal ? y : x;
+        IntervalList own = (horizontal ? rows : columns).get(across);
+        IntObjectMap<IntervalList> crossing = horizontal ? columns : rows;
+        IntervalList crossingKeys = horizontal ? columnKeys : rowKeys;
+        long distance;
+        if (direction.getDeltaX() + direction.getDeltaY() > 0) {
+            long hit = own == null ? IntervalList.NONE_HIGHER : own.higher(along);
+            for (long key = crossingKeys.higher(along); key < hit && key - along <= limit;
+                    key = crossingKeys.higher((int) key)) {
+                if (crossing.get((int) key).contains(across)) {
+                    hit = key;
+                }
+            }
+            distance = hit == IntervalList.NONE_HIGHER ? Long.MAX_VALUE : hit - along - 1;
+        } else {
+            long hit = own == null ? IntervalList.NONE_LOWER : own.lower(along);
+            for (long key = crossingKeys.lower(along); key > hit && along - key <= limit;
+                    key = crossingKeys.lower((int) key)) {
+                if (crossing.get((int) key).contains(across)) {
+                    hit = key;
+                }
+            }
+            distance = hit == IntervalList.NONE_LOWER ? Long.MAX_VALUE : along - hit - 1;
+        }
+        return Math.min(distance, limit);
+    }
+
+    /**
+     * Looks only at the rows and columns the rectangle spans that hold a
+     * wall, with one binary search each.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            return true;
+        }
+        return !anyIn(rows, rowKeys, minY, maxY, minX, maxX) && !anyIn(columns, columnKeys, minX, maxX, minY, maxY);
+    }
+
+    // Whether a line keyed in [fromKey, toKey] covers a value in [from, to].
+    private static boolean anyIn(IntObjectMap<IntervalList> lines, IntervalList keys,
+                                 int fromKey, int toKey, int from, int to) {
+        for (long key = keys.contains(fromKey) ? fromKey : keys.higher(fromKey); key <= toKey;
+                key = keys.higher((int) key)) {
+            if (lines.get((int) key).hasValueIn(from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IntervalList line(IntObjectMap<IntervalList> lines, IntervalList keys, int key) {
+        IntervalList line = lines.get(key);
+        if (line == null) {
+            line = new IntervalList();
+            lines.put(key, line);
+            keys.add(key, key);
+        }
+        return line;
+    }
+
+    private static boolean remove(IntObjectMap<IntervalList> lines, IntervalList keys, int key, int value) {
+        IntervalList line = lines.get(key);
+        if (line == null || !line.remove(value)) {
+            return false;
+        }
+        if (line.size() == 0) {
+            lines.remove(key);
+            keys.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the lines keyed in {@code [fromKey, toKey]},
+     * for a wall across them that now covers those cells, and returns how
+     * many lines held it.
+     */
+    private static long take(IntObjectMap<IntervalList> lines, IntervalList keys, int value, int fromKey, int toKey) {
+        long taken = 0;
+        for (long key = keys.contains(fromKey) ? fromKey : keys.higher(fromKey); key <= toKey; ) {
+            long next = keys.higher((int) key);
+            if (remove(lines, keys, (int) key, value)) {
+                taken++;
+            }
+            key = next;
+        }
+        return taken;
+    }
+
+    private static long intervalCount(IntObjectMap<IntervalList> lines) {
+        long intervals = 0;
+        for (int slot = 0; slot < lines.capacity(); slot++) {
+            IntervalList line = lines.valueAt(slot);
+            if (line != null) {
+                intervals += line.size();
+            }
+        }
+        return intervals;
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        return new Iterator<>() {
+            private boolean inColumns;
+            private int slot = -1;
+            private int key;
+            private IntervalList line;
+            private int interval;
+            private long value;
+
+            @Override
+            public boolean hasNext() {
+                while (line == null || interval >= line.size()) {
+                    IntObjectMap<IntervalList> lines = inColumns ? columns : rows;
+                    if (++slot >= lines.capacity()) {
+                        if (inColumns) {
+                            return false;
+                        }
+                        inColumns = true;
+                        slot = -1;
+                        continue;
+                    }
+                    line = lines.valueAt(slot);
+                    if (line != null) {
+                        key = lines.keyAt(slot);
+                        interval = 0;
+                        value = line.start(0);
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Position next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Position position = inColumns ? new Position(key, (int) value) : new Position((int) value, key);
+                if (value == line.end(interval)) {
+                    interval++;
+                    if (interval < line.size()) {
+                        value = line.start(interval);
+                    }
+                } else {
+                    value++;
+                }
+                return position;
+            }
+        };
+    }
+}
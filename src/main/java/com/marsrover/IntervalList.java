@@ -0,0 +1,151 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of disjoint, non-adjacent closed {@code int} intervals with
+ * binary-search lookups. Adding a value or range merges it with the
+ * intervals it touches, so a contiguous run always takes one interval.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class IntervalList {
+
+    static final long NONE_HIGHER = Long.MAX_VALUE;
+    static final long NONE_LOWER = Long.MIN_VALUE;
+
+    private int[] bounds = new int[2]; // interval i is [bounds[2i], bounds[2i + 1]]
+    private int size;
+
+    /**
+     * Number of intervals.
+     */
+    int size() {
+        return size;
+    }
+
+    int start(int index) {
+        return bounds[index << 1];
+    }
+
+    int end(int index) {
+        return bounds[(index << 1) + 1];
+    }
+
+    boolean contains(int value) {
+        int index = floorIndex(value);
+        return index >= 0 && end(index) >= value;
+    }
+
+    /**
+     * Whether any value of {@code [min, max]} is covered.
+     */
+    boolean hasValueIn(int min, int max) {
+        int index = floorIndex(max);
+        return index >= 0 && end(index) >= min;
+    }
+
+    /**
+     * Smallest covered value greater than {@code value}, or {@link #NONE_HIGHER}.
+     */
+    long higher(int value) {
+        long next = (long) value + 1;
+        int index = floorIndex(next);
+        if (index >= 0 && end(index) >= next) {
+            return next;
+        }
+        return index + 1 < size ? start(index + 1) : NONE_HIGHER;
+    }
+
+    /**
+     * Largest covered value less than {@code value}, or {@link #NONE_LOWER}.
+     */
+    long lower(int value) {
+        long previous = (long) value - 1;
+        int index = floorIndex(previous);
+        return index >= 0 ? Math.min(end(index), previous) : NONE_LOWER;
+    }
+
+    /**
+     * Covers {@code [from, to]}, merging with every interval it overlaps or touches.
+     *
+     * @return the number of values that were not covered before
+     */
+    long add(int from, int to) {
+        int first = floorIndex(from);
+        if (first < 0 || (long) end(first) + 1 < from) {
+            first++;
+        }
+        int last = floorIndex((long) to + 1);
+        if (first > last) {
+            insert(first, from, to);
+            return (long) to - from + 1;
+        }
+        long covered = 0;
+        for (int i = first; i <= last; i++) {
+            covered += (long) end(i) - start(i) + 1;
+        }
+        int start = Math.min(from, start(first));
+        int end = Math.max(to, end(last));
+        bounds[first << 1] = start;
+        bounds[(first << 1) + 1] = end;
+        delete(first + 1, last + 1);
+        return (long) end - start + 1 - covered;
+    }
+
+    /**
+     * Uncovers one value, splitting its interval if needed.
+     */
+    boolean remove(int value) {
+        int index = floorIndex(value);
+        if (index < 0 || end(index) < value) {
+            return false;
+        }
+        int start = start(index);
+        int end = end(index);
+        if (start == end) {
+            delete(index, index + 1);
+        } else if (value == start) {
+            bounds[index << 1] = value + 1;
+        } else if (value == end) {
+            bounds[(index << 1) + 1] = value - 1;
+        } else {
+            bounds[(index << 1) + 1] = value - 1;
+            insert(index + 1, value + 1, end);
+        }
+        return true;
+    }
+
+    // Index of the last interval starting at or before value, or -1.
+    private int floorIndex(long value) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (start(mid) <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi;
+    }
+
+    private void insert(int index, int start, int end) {
+        if ((size + 1) << 1 > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length << 1);
+        }
+        System.arraycopy(bounds, index << 1, bounds, (index + 1) << 1, (size - index) << 1);
+        bounds[index << 1] = start;
+        bounds[(index << 1) + 1] = end;
+        size++;
+    }
+
+    // Removes intervals [from, to).
+    private void delete(int from, int to) {
+        System.arraycopy(bounds, to << 1, bounds, from << 1, (size - to) << 1);
+        size -= to - from;
+    }
+}
@@ -0,0 +1,110 @@
+package com.marsrover;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A read-only base blocker set with a small private layer of extra blockers on top.
+ * <p>
+ * Lets several rovers share one large obstacle map while each one also sees
+ * its own few additional blocked cells, for example the final positions of
+ * the rovers it depends on. New blockers only go into the extra layer; the
+ * base is never modified, so many layers can read it concurrently.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class LayeredBlockerSet extends AbstractBlockerSet {
+
+    private final Set<Position> base;
+    private final BlockerIndex baseIndex;
+    private final AbstractBlockerSet extra;
+
+    public LayeredBlockerSet(Set<Position> base) {
+        this(base, new PackedBlockerSet());
+    }
+
+    /**
+     * Layers {@code extra} over {@code base}. Both are used live; the extra
+     * layer may also be shared and grown by the caller.
+     */
+    public LayeredBlockerSet(Set<Position> base, AbstractBlockerSet extra) {
+        this.base = base;
+        this.baseIndex = base instanceof BlockerIndex ? (BlockerIndex) base : new SetBlockerIndex(base);
+        this.extra = extra;
+    }
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        return extra.isBlocked(x, y) || baseIndex.isBlocked(x, y);
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        return !baseIndex.isBlocked(x, y) && extra.block(x, y);
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the cell is blocked in the base set
+     */
+    @Override
+    public boolean unblock(int x, int y) {
+        if (extra.unblock(x, y)) {
+            return true;
+        }
+        if (baseIndex.isBlocked(x, y)) {
+            throw new UnsupportedOperationException("Cannot unblock a cell of the base blocker set");
+        }
+        return false;
+    }
+
+    /**
+     * Sum of the base and extra versions, or {@link #UNVERSIONED} if the base does not track changes.
+     */
+    @Override
+    public long version() {
+        long baseVersion = baseIndex.version();
+        return baseVersion == UNVERSIONED ? UNVERSIONED : baseVersion + extra.version();
+    }
+
+    @Override
+    public int count() {
+        return baseIndex.count() + extra.count();
+    }
+
+    @Override
+    public long freeSteps(int x, int y, Direction direction, long limit) {
+        return extra.freeSteps(x, y, direction, baseIndex.freeSteps(x, y, direction, limit));
+    }
+
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        return extra.isRegionClear(minX, minY, maxX, maxY) && baseIndex.isRegionClear(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        Iterator<Position> baseIterator = base.iterator();
+        Iterator<Position> extraIterator = extra.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return baseIterator.hasNext() || extraIterator.hasNext();
+            }
+
+            @Override
+            public Position next() {
+                if (baseIterator.hasNext()) {
+                    return baseIterator.next();
+                }
+                if (extraIterator.hasNext()) {
+                    return extraIterator.next();
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package com.marsrover;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Mission file reader that parses straight from memory-mapped bytes.
+ * <p>
+ * The file is mapped with {@link FileChannel#map} in windows of up to
+ * 1 GB, so archives larger than a single mapping are supported. Borders and
+ * poses are parsed from the mapped bytes, and each rover's commands are
+ * exposed as a {@link CommandSlice} over the mapping instead of being copied
+ * to the heap. Command bytes are only validated when the slice is decoded,
+ * see {@link CommandSlice}. A window is re-mapped at the start of any token that crosses
+ * its end; a single command sequence must fit in one window.
+ * </p>
+ * <p>
+ * Works as a cursor: {@link #next()} advances to the next mission, whose
+ * fields are then available through the getters.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedMissionReader implements Closeable {
+
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+    private long cursor;
+
+    private Position border;
+    private int x;
+    private int y;
+    private Direction direction;
+    private CommandSlice commands;
+
+    public MappedMissionReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedMissionReader(Path file, long windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = Math.min(windowSize, Integer.MAX_VALUE);
+    }
+
+    public Position readBorder() throws IOException {
+        if (border == null) {
+            border = new Position(readInt("border x"), readInt("border y"));
+        }
+        return border;
+    }
+
+    /**
+     * Advances to the next mission.
+     *
+     * @return {@code false} at the end of the file
+     * @throws IllegalArgumentException if the file is malformed
+     */
+    public boolean next() throws IOException {
+        readBorder();
+        if (skipWhitespace() < 0) {
+            return false;
+        }
+        x = readInt("x");
+        y = readInt("y");
+        direction = readDirection();
+        commands = readCommands();
+        return true;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public CommandSlice getCommands() {
+        return commands;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int readInt(String name) throws IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            throw new IllegalArgumentException("Unexpected end of input, expected " + name);
+        }
+        long start = cursor;
+        boolean negative = c == '-';
+        if (c == '-' || c == '+') {
+            cursor++;
+        }
+        long value = 0;
+        int digits = 0;
+        while ((c = byteAt(cursor)) > ' ') {
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Expected integer for " + name + " at offset " + start
+                        + " but found '" + (char) c + "'");
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new IllegalArgumentException("Integer out of range for " + name + " at offset " + start);
+            }
+            digits++;
+            cursor++;
+        }
+        if (digits == 0 || (!negative && value > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Expected integer for " + name + " at offset " + start);
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private Direction readDirection() throws IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            throw new IllegalArgumentException("Unexpected end of input, expected direction");
+        }
+        cursor++;
+        int following = byteAt(cursor);
+        if (following > ' ') {
+            throw new IllegalArgumentException("Invalid direction '" + (char) c + (char) following + "...'");
+        }
+        try {
+            return Direction.fromChar((char) c);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid direction '" + (char) c + "'");
+        }
+    }
+
+    private CommandSlice readCommands() throws IOException {
+        if (skipWhitespace() < 0) {
+            return new CommandSlice(window, 0, 0);
+        }
+        long start = cursor;
+        while (byteAt(cursor) > ' ') {
+            cursor++;
+        }
+        long length = cursor - start;
+        if (length > windowSize) {
+            throw new IllegalArgumentException("Command sequence at offset " + start + " is longer than the "
+                    + windowSize + " byte mapping window");
+        }
+        if (start < windowStart || cursor > windowEnd) {
+            map(start);
+        }
+        return new CommandSlice(window, (int) (start - windowStart), (int) length);
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c;
+        while ((c = byteAt(cursor)) >= 0 && c <= ' ') {
+            cursor++;
+        }
+        return c;
+    }
+
+    private int byteAt(long offset) throws IOException {
+        if (offset >= fileSize) {
+            return -1;
+        }
+        if (window == null || offset < windowStart || offset >= windowEnd) {
+            map(offset);
+        }
+        return window.get((int) (offset - windowStart)) & 0xFF;
+    }
+
+    private void map(long from) throws IOException {
+        windowStart = from;
+        windowEnd = Math.min(fileSize, from + windowSize);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+    }
+}
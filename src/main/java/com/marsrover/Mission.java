@@ -0,0 +1,44 @@
+package com.marsrover;
+
+/**
+ * One rover's start pose and the program it has to run.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Mission {
+
+    private final int x;
+    private final int y;
+    private final Direction direction;
+    private final CommandProgram program;
+
+    public Mission(int x, int y, Direction direction, CommandProgram program) {
+        this.x = x;
+        this.y = y;
+        this.direction = direction;
+        this.program = program;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public CommandProgram getProgram() {
+        return program;
+    }
+
+    @Override
+    public String toString() {
+        return x + " " + y + " " + direction.getSymbol() + " " + program;
+    }
+}
@@ -0,0 +1,72 @@
+package com.marsrover;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts between the text mission format read by {@link MissionReader}
+ * and the binary format of {@link BinaryMissionWriter}.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MissionConverter {
+
+    private MissionConverter() {
+    }
+
+    /**
+     * Converts text missions to binary. The streams are not closed.
+     *
+     * @return the number of missions converted
+     * @throws IllegalArgumentException if the text is malformed
+     */
+    public static long textToBinary(InputStream text, OutputStream binary) throws IOException {
+        MissionReader reader = new MissionReader(text);
+        Position border = reader.readBorder();
+        BinaryMissionWriter writer = new BinaryMissionWriter(binary, border.getX(), border.getY());
+        long count = 0;
+        Mission mission;
+        while ((mission = reader.next()) != null) {
+            writer.write(mission);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Converts binary missions to text, one {@code "x y D COMMANDS"} line per
+     * mission after the border line. The streams are not closed.
+     *
+     * @return the number of missions converted
+     * @throws IllegalArgumentException if the binary input is malformed
+     */
+    public static long binaryToText(InputStream binary, OutputStream text) throws IOException {
+        BinaryMissionReader reader = new BinaryMissionReader(binary);
+        BufferedOutputStream out = new BufferedOutputStream(text, 1 << 16);
+        out.write((reader.getBorder().getX() + " " + reader.getBorder().getY() + "\n").getBytes(StandardCharsets.US_ASCII));
+        long count = 0;
+        boolean previousEmpty = false;
+        while (reader.next()) {
+            if (previousEmpty) {
+                // The text reader would take this mission's x as the previous mission's commands
+                throw new IllegalArgumentException("Mission " + (count - 1)
+                        + " has no commands, which text can only express for the last mission");
+            }
+            String line = reader.getX() + " " + reader.getY() + " " + reader.getDirection().getSymbol();
+            if (reader.getCommands().length() > 0) {
+                line += " " + reader.getCommands();
+            }
+            out.write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+            previousEmpty = reader.getCommands().length() == 0;
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+}
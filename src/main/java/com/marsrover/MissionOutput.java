@@ -0,0 +1,187 @@
+package com.marsrover;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered writer for mission results.
+ * <p>
+ * Lines are formatted straight into a reusable byte buffer, numbers
+ * included, and written to the underlying stream in large blocks instead of
+ * one synchronized, auto-flushing {@code println} per command. What gets
+ * written depends on the {@link Verbosity}; below {@link Verbosity#TRACE}
+ * no per-step text is produced at all, so callers can run whole programs at once.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class MissionOutput implements Flushable {
+
+    /**
+     * How much to report per rover.
+     */
+    public enum Verbosity {
+        /** Initial position, the pose after every command, and the final position. */
+        TRACE,
+        /** Only the final position of each rover. */
+        FINAL,
+        /** Only the totals, once all rovers have run. */
+        SUMMARY;
+
+        public static Verbosity fromString(String s) {
+            for (Verbosity verbosity : values()) {
+                if (verbosity.name().equalsIgnoreCase(s)) {
+                    return verbosity;
+                }
+            }
+            throw new IllegalArgumentException("Invalid verbosity: " + s);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] INITIAL = ascii("Initial position: ");
+    private static final byte[] AFTER = ascii("After ");
+    private static final byte[] FINAL = ascii("Final position: ");
+    private static final byte[] ROVERS = ascii("Rovers: ");
+    private static final byte[] COMMANDS = ascii("Commands: ");
+
+    private final OutputStream out;
+    private final Verbosity verbosity;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int size;
+
+    private long rovers;
+    private long commands;
+
+    public MissionOutput(OutputStream out, Verbosity verbosity) {
+        this.out = out;
+        this.verbosity = verbosity;
+    }
+
+    public Verbosity getVerbosity() {
+        return verbosity;
+    }
+
+    /**
+     * Whether {@link #step} output is wanted, i.e. whether commands must be run one at a time.
+     */
+    public boolean tracesSteps() {
+        return verbosity == Verbosity.TRACE;
+    }
+
+    public void initialPosition(Coordinates rover) {
+        if (verbosity == Verbosity.TRACE) {
+            write(INITIAL);
+            writePose(rover);
+            writeByte('\n');
+        }
+    }
+
+    /**
+     * Traces one executed command, echoing {@code symbol} as it was written in the input.
+     */
+    public void step(char symbol, Coordinates rover) {
+        if (verbosity == Verbosity.TRACE) {
+            write(AFTER);
+            writeByte(symbol);
+            writeByte(':');
+            writeByte(' ');
+            writePose(rover);
+            writeByte('\n');
+        }
+    }
+
+    public void finalPosition(Coordinates rover, long commandCount) {
+        rovers++;
+        commands += commandCount;
+        if (verbosity != Verbosity.SUMMARY) {
+            write(FINAL);
+            writePose(rover);
+            writeByte('\n');
+        }
+    }
+
+    /**
+     * Writes the totals when running at {@link Verbosity#SUMMARY}.
+     */
+    public void summary() {
+        if (verbosity == Verbosity.SUMMARY) {
+            write(ROVERS);
+            writeLong(rovers);
+            writeByte('\n');
+            write(COMMANDS);
+            writeLong(commands);
+            writeByte('\n');
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.write(buffer, 0, size);
+            out.flush();
+            size = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writePose(Coordinates rover) {
+        writeLong(rover.getX());
+        writeByte(' ');
+        writeLong(rover.getY());
+        writeByte(' ');
+        writeByte(rover.getDirection().getSymbol());
+    }
+
+    private void writeLong(long value) {
+        // 20 digits plus sign covers Long.MIN_VALUE
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+        } else {
+            value = -value; // Work with negatives so Long.MIN_VALUE needs no special case
+        }
+        int start = size;
+        do {
+            buffer[size++] = (byte) ('0' - (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = size - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (size + bytes > buffer.length) {
+            try {
+                out.write(buffer, 0, size);
+                size = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
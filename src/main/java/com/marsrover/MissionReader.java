@@ -0,0 +1,164 @@
+package com.marsrover;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Streaming parser for mission input such as {@code "5 5 1 2 N LMLMLMLMM 3 3 E MMRMMRMRRM"}.
+ * <p>
+ * Reads the stream through a fixed-size byte buffer, parsing integers,
+ * direction letters and commands straight from the bytes, and hands out one
+ * {@link Mission} at a time, so input of any size can be processed in
+ * bounded memory (apart from the commands of the current mission). Tokens
+ * are separated by any whitespace. As with the command-line format, the
+ * token after a rover's direction is always read as its commands.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class MissionReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long offset; // Stream offset of buffer[0], for error messages
+
+    private Position border;
+
+    public MissionReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the plateau border, the first two integers of the input.
+     */
+    public Position readBorder() throws IOException {
+        if (border == null) {
+            border = new Position(readInt("border x"), readInt("border y"));
+        }
+        return border;
+    }
+
+    /**
+     * Reads the next mission, or returns {@code null} at the end of the input.
+     *
+     * @throws IllegalArgumentException if the input is malformed
+     */
+    public Mission next() throws IOException {
+        readBorder();
+        if (skipWhitespace() < 0) {
+            return null;
+        }
+        int x = readInt("x");
+        int y = readInt("y");
+        Direction direction = readDirection();
+        CommandProgram program = skipWhitespace() < 0 ? CommandProgram.EMPTY : readCommands();
+        return new Mission(x, y, direction, program);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int readInt(String name) throws IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            throw new IllegalArgumentException("Unexpected end of input, expected " + name);
+        }
+        long start = offset + position;
+        boolean negative = c == '-';
+        if (c == '-' || c == '+') {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while ((c = peek()) >= 0 && c > ' ') {
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Expected integer for " + name + " at offset " + start
+                        + " but found '" + (char) c + "'");
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new IllegalArgumentException("Integer out of range for " + name + " at offset " + start);
+            }
+            digits++;
+            position++;
+        }
+        if (digits == 0 || (!negative && value > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Expected integer for " + name + " at offset " + start);
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private Direction readDirection() throws IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            throw new IllegalArgumentException("Unexpected end of input, expected direction");
+        }
+        position++;
+        int following = peek();
+        if (following > ' ') {
+            throw new IllegalArgumentException("Invalid direction '" + (char) c + (char) following + "...'");
+        }
+        try {
+            return Direction.fromChar((char) c);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid direction '" + (char) c + "'");
+        }
+    }
+
+    private CommandProgram readCommands() throws IOException {
+        byte[] ops = new byte[64];
+        int length = 0;
+        // Decode whole buffered runs of command letters; the run ends at whitespace or an invalid byte
+        while (peek() > ' ') {
+            if (length + (limit - position) > ops.length) {
+                ops = Arrays.copyOf(ops, Math.max(ops.length * 2, length + (limit - position)));
+            }
+            int invalid = CommandDecoder.decode(buffer, position, limit, ops, length);
+            int end = invalid < 0 ? limit : invalid;
+            length += end - position;
+            position = end;
+            if (invalid >= 0 && (buffer[invalid] & 0xFF) > ' ') {
+                CommandProgram.opcode((char) (buffer[invalid] & 0xFF), length);
+            }
+        }
+        return CommandProgram.ofOpcodes(Arrays.copyOf(ops, length));
+    }
+
+    // Skips whitespace and returns the next byte without consuming it, or -1 at the end.
+    private int skipWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) >= 0 && c <= ' ') {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = 0;
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+}
@@ -0,0 +1,234 @@
+package com.marsrover;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Blocker set keyed on {@code (x, y)} packed into a single {@code long}.
+ * <p>
+ * Uses open addressing with linear probing over a primitive {@code long[]},
+ * so each blocker costs one array slot (8 bytes at full load, 16 at half)
+ * instead of a {@link Position} plus a hash map node, and lookups never
+ * allocate. Removal uses backward-shift deletion, so no tombstones build up.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class PackedBlockerSet extends AbstractBlockerSet {
+
+    // Marks an unused slot. The cell it encodes is tracked separately by hasEmptyKey.
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasEmptyKey;
+
+    public PackedBlockerSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public PackedBlockerSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    static int unpackX(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int unpackY(long key) {
+        return (int) key;
+    }
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        long key = pack(x, y);
+        if (key == EMPTY) {
+            return hasEmptyKey;
+        }
+        int slot = slot(key);
+        long[] k = keys;
+        while (true) {
+            long existing = k[slot];
+            if (existing == key) {
+                return true;
+            }
+            if (existing == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        long key = pack(x, y);
+        if (key == EMPTY) {
+            if (hasEmptyKey) {
+                return false;
+            }
+            hasEmptyKey = true;
+            size++;
+            modCount++;
+            return true;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        modCount++;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        long key = pack(x, y);
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                return false;
+            }
+            hasEmptyKey = false;
+            size--;
+            modCount++;
+            return true;
+        }
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        shiftBack(slot);
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        allocate(MIN_CAPACITY);
+        size = 0;
+        hasEmptyKey = false;
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        return new Iterator<>() {
+            private int slot = -1;
+            private boolean emptyKeyPending = hasEmptyKey;
+
+            {
+                advance();
+            }
+
+            private void advance() {
+                do {
+                    slot++;
+                } while (slot < keys.length && keys[slot] == EMPTY);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < keys.length || emptyKeyPending;
+            }
+
+            @Override
+            public Position next() {
+                if (slot < keys.length) {
+                    long key = keys[slot];
+                    advance();
+                    return new Position(unpackX(key), unpackY(key));
+                }
+                if (emptyKeyPending) {
+                    emptyKeyPending = false;
+                    return new Position(unpackX(EMPTY), unpackY(EMPTY));
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    // Closes the gap left at 'slot' by moving later entries of the same probe chain back.
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            // Move the entry unless its home lies cyclically in (gap, next].
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private int slot(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    // fmix64 finalizer from MurmurHash3, spreads neighbouring cells across the table
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        allocate(capacity);
+        for (long key : old) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Too many blockers: " + expectedSize);
+        }
+        return (int) Math.max(MIN_CAPACITY, capacity);
+    }
+}
@@ -0,0 +1,169 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * A command sequence packed 2 bits per command, four commands per byte.
+ * <p>
+ * Command {@code i} is the opcode ({@link Command} ordinal) in bits
+ * {@code 2 * (i % 4)} and {@code 2 * (i % 4) + 1} of byte {@code i / 4}. The
+ * unused code {@code 3} never occurs, and unused bits in the last byte are
+ * zero. This is a quarter of a {@link CommandProgram} and an eighth of a
+ * UTF-16 string. {@link Coordinates#execute(PackedCommandProgram)} runs it
+ * directly, comparing whole bytes to skip uniform runs such as {@code MMMM}
+ * four commands at a time.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PackedCommandProgram implements CommandSequence {
+
+    private static final Command[] COMMANDS = Command.values();
+
+    public static final PackedCommandProgram EMPTY = new PackedCommandProgram(new byte[0], 0);
+
+    private final byte[] packed;
+    private final int length;
+
+    private PackedCommandProgram(byte[] packed, int length) {
+        this.packed = packed;
+        this.length = length;
+    }
+
+    /**
+     * Number of bytes needed to pack {@code length} commands.
+     */
+    public static int packedSize(int length) {
+        return (int) (((long) length + 3) >>> 2);
+    }
+
+    public static PackedCommandProgram pack(CommandSequence commands) {
+        int length = commands.length();
+        byte[] packed = new byte[packedSize(length)];
+        for (int i = 0; i < length; i++) {
+            packed[i >>> 2] |= (byte) (commands.commandAt(i).ordinal() << ((i & 3) << 1));
+        }
+        return new PackedCommandProgram(packed, length);
+    }
+
+    /**
+     * Validates and wraps packed bytes, for example read from a binary mission file.
+     * The array must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if the array has the wrong size, contains
+     *                                  code 3 or has bits set past the last command
+     */
+    static PackedCommandProgram wrap(byte[] packed, int length) {
+        if (length < 0 || packed.length != packedSize(length)) {
+            throw new IllegalArgumentException("Packed program of " + packed.length + " bytes cannot hold "
+                    + length + " commands");
+        }
+        for (int i = 0; i < packed.length; i++) {
+            int b = packed[i] & 0xFF;
+            // A code of 3 has both bits of a pair set
+            if ((b & (b >>> 1) & 0x55) != 0) {
+                throw new IllegalArgumentException("Invalid packed command at offset " + firstInvalid(b, i));
+            }
+        }
+        int tail = length & 3;
+        if (tail != 0 && (packed[packed.length - 1] & 0xFF) >>> (tail << 1) != 0) {
+            throw new IllegalArgumentException("Packed program has bits set past command " + length);
+        }
+        return length == 0 ? EMPTY : new PackedCommandProgram(packed, length);
+    }
+
+    private static int firstInvalid(int b, int byteIndex) {
+        int slot = 0;
+        while (((b >>> (slot << 1)) & 3) != 3) {
+            slot++;
+        }
+        return (byteIndex << 2) + slot;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Command commandAt(int index) {
+        return COMMANDS[opcodeAt(index)];
+    }
+
+    byte opcodeAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Command " + index + " out of range 0.." + length);
+        }
+        return code(index);
+    }
+
+    private byte code(int index) {
+        return (byte) ((packed[index >>> 2] >>> ((index & 3) << 1)) & 3);
+    }
+
+    /**
+     * End (exclusive) of the run of commands equal to command {@code from}.
+     * Whole bytes of four equal commands are skipped with one comparison.
+     */
+    int runEnd(int from) {
+        byte op = opcodeAt(from);
+        byte uniform = (byte) (op * 0x55);
+        int i = from + 1;
+        while (i < length && (i & 3) != 0) {
+            if (code(i) != op) {
+                return i;
+            }
+            i++;
+        }
+        while (i + 4 <= length && packed[i >>> 2] == uniform) {
+            i += 4;
+        }
+        while (i < length && code(i) == op) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Copy of the packed bytes.
+     */
+    public byte[] toPackedBytes() {
+        return packed.clone();
+    }
+
+    public CommandProgram toProgram() {
+        byte[] ops = new byte[length];
+        for (int i = 0; i < length; i++) {
+            ops[i] = code(i);
+        }
+        return CommandProgram.ofOpcodes(ops);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PackedCommandProgram)) {
+            return false;
+        }
+        PackedCommandProgram other = (PackedCommandProgram) obj;
+        return length == other.length && Arrays.equals(packed, other.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(packed) + length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(COMMANDS[code(i)].getSymbol());
+        }
+        return sb.toString();
+    }
+}
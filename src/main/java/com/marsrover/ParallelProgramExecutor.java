@@ -0,0 +1,165 @@
+package com.marsrover;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs one very long program on one rover, using all cores for the stretches that are clear.
+ * <p>
+ * The program is split into fixed-length chunks. In parallel, each chunk is
+ * reduced to its {@link ProgramTransform} (net rotation, displacement and
+ * swept box), and a blocked parallel prefix scan over those transforms gives
+ * the pose every chunk would start from if nothing were in the way. Each
+ * chunk is then checked, also in parallel, for whether its swept box from
+ * that predicted pose is inside the border and clear of blockers.
+ * </p>
+ * <p>
+ * A final serial pass walks the chunks in order. A clear chunk is applied as
+ * a whole transform; any other chunk is re-executed command by command. After
+ * a re-executed chunk the rover may be off the predicted track, and then each
+ * chunk's transform is checked again from the actual pose, until the rover
+ * lands back on a predicted pose. The result is always the same as
+ * {@link Coordinates#execute(CommandProgram)}.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class ParallelProgramExecutor {
+
+    static final int DEFAULT_CHUNK_LENGTH = 1 << 16;
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int chunkLength;
+    private int lastReexecutedChunks;
+
+    public ParallelProgramExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelProgramExecutor(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_LENGTH);
+    }
+
+    public ParallelProgramExecutor(ForkJoinPool pool, int chunkLength) {
+        if (chunkLength <= 0) {
+            throw new IllegalArgumentException("Chunk length must be positive: " + chunkLength);
+        }
+        this.pool = pool;
+        this.chunkLength = chunkLength;
+    }
+
+    /**
+     * Number of chunks the last {@link #execute} ran command by command.
+     */
+    public int getLastReexecutedChunks() {
+        return lastReexecutedChunks;
+    }
+
+    /**
+     * Runs the program from the rover's current pose and updates the rover in place.
+     */
+    public void execute(Coordinates rover, CommandProgram program) {
+        int length = program.length();
+        int chunks = (int) (((long) length + chunkLength - 1) / chunkLength);
+        if (chunks < 2) {
+            rover.execute(program);
+            lastReexecutedChunks = chunks;
+            return;
+        }
+        Scan scan = new Scan(rover, program, chunks);
+        pool.submit(scan::run).join();
+
+        int reexecuted = 0;
+        for (int c = 0; c < chunks; c++) {
+            ProgramTransform transform = scan.transforms[c];
+            boolean onTrack = rover.getX() == scan.startX[c] && rover.getY() == scan.startY[c]
+                    && rover.getDirection().ordinal() == scan.startHeading[c];
+            if (onTrack ? scan.clear[c] : transform.isClearFrom(rover)) {
+                transform.applyTo(rover);
+            } else {
+                rover.execute(program, chunkStart(c), chunkEnd(c, length));
+                reexecuted++;
+            }
+        }
+        lastReexecutedChunks = reexecuted;
+    }
+
+    private int chunkStart(int chunk) {
+        return (int) ((long) chunk * chunkLength);
+    }
+
+    private int chunkEnd(int chunk, int length) {
+        return (int) Math.min(length, (long) (chunk + 1) * chunkLength);
+    }
+
+    /**
+     * Chunk transforms and predicted start poses for one {@link #execute}.
+     */
+    private final class Scan {
+
+        private final Coordinates rover;
+        private final CommandProgram program;
+        private final int chunks;
+        private final int blocks;
+        private final ProgramTransform[] transforms;
+        private final long[] startX;
+        private final long[] startY;
+        private final int[] startHeading;
+        private final boolean[] clear;
+
+        Scan(Coordinates rover, CommandProgram program, int chunks) {
+            this.rover = rover;
+            this.program = program;
+            this.chunks = chunks;
+            this.blocks = Math.max(1, Math.min(chunks, pool.getParallelism() * BLOCKS_PER_THREAD));
+            this.transforms = new ProgramTransform[chunks];
+            this.startX = new long[chunks];
+            this.startY = new long[chunks];
+            this.startHeading = new int[chunks];
+            this.clear = new boolean[chunks];
+        }
+
+        void run() {
+            // Up-sweep: each block reduces its chunks
+            ProgramTransform[] totals = new ProgramTransform[blocks];
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                ProgramTransform total = ProgramTransform.IDENTITY;
+                for (int c = blockStart(b); c < blockStart(b + 1); c++) {
+                    transforms[c] = ProgramTransform.of(program, chunkStart(c), chunkEnd(c, program.length()));
+                    total = total.then(transforms[c]);
+                }
+                totals[b] = total;
+            });
+
+            // Exclusive scan of the few block totals
+            ProgramTransform[] prefixes = new ProgramTransform[blocks];
+            ProgramTransform running = ProgramTransform.IDENTITY;
+            for (int b = 0; b < blocks; b++) {
+                prefixes[b] = running;
+                running = running.then(totals[b]);
+            }
+
+            // Down-sweep: predicted start pose and clearance of every chunk
+            long x = rover.getX();
+            long y = rover.getY();
+            int heading = rover.getDirection().ordinal();
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                ProgramTransform prefix = prefixes[b];
+                for (int c = blockStart(b); c < blockStart(b + 1); c++) {
+                    startX[c] = prefix.endX(x, heading);
+                    startY[c] = prefix.endY(y, heading);
+                    startHeading[c] = (heading + prefix.getRotation()) & 3;
+                    clear[c] = transforms[c].isClearFrom(rover, startX[c], startY[c], startHeading[c]);
+                    prefix = prefix.then(transforms[c]);
+                }
+            });
+        }
+
+        private int blockStart(int block) {
+            return (int) ((long) chunks * block / blocks);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.marsrover;
+
+/**
+ * Storage for the poses of a fleet, addressed by rover index.
+ * <p>
+ * {@link Fleet} reads and writes poses only through this interface, so the
+ * same engine can keep them in heap arrays ({@link ArrayPoseStore}) or
+ * off-heap ({@link DirectPoseStore}) without creating a {@link Coordinates}
+ * or {@link Position} per rover.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public interface PoseStore {
+
+    /**
+     * Number of rovers that can be stored without growing.
+     */
+    int capacity();
+
+    /**
+     * Grows the store so that rovers {@code 0..rovers-1} can be stored.
+     */
+    void ensureCapacity(int rovers);
+
+    int getX(int rover);
+
+    int getY(int rover);
+
+    Direction getDirection(int rover);
+
+    void set(int rover, int x, int y, Direction direction);
+}
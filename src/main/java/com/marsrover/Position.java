@@ -1,7 +1,5 @@
 package com.marsrover;
 
-import java.util.Objects;
-
 /**
  * Represents an immutable position on the Mars surface with x and y coordinates.
  * <p>
@@ -21,7 +19,7 @@ public class Position {
     public Position(int x, int y) {
         this.x = x;
         this.y = y;
-        this.hashCode = Objects.hash(x, y); //pre-compute hash code
+        this.hashCode = 31 * (31 + x) + y; // Same value as Objects.hash(x, y), without boxing
     }
 
     public int getX() {
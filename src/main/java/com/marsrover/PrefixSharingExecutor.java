@@ -0,0 +1,211 @@
+package com.marsrover;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs a batch of independent rovers, simulating command prefixes they share only once.
+ * <p>
+ * Rovers that start on the same pose and run programs with a common prefix
+ * go through the same states until their programs diverge, because the
+ * obstacles are frozen for the whole batch and the rovers do not block each
+ * other. The missions are sorted by start pose and then lexicographically by
+ * program, which lays out each start pose's programs as the leaves of an
+ * implicit trie: any contiguous range shares the longest common prefix of its
+ * first and last program. Each trie edge is run once on a single
+ * {@link Coordinates} cursor, a run of equal commands at a time, and the pose
+ * at the end of the edge is the starting point of every branch below it. The
+ * work done is the size of the trie rather than the total program length.
+ * </p>
+ * <p>
+ * The result is the same as {@link Fleet#executeIndependently}. Rovers with
+ * no shared prefix cost one extra sort.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class PrefixSharingExecutor {
+
+    private static final int INSERTION_SORT_LIMIT = 16;
+
+    private long lastSimulatedCommands;
+
+    /**
+     * Number of commands the last {@link #run} actually simulated.
+     */
+    public long getLastSimulatedCommands() {
+        return lastSimulatedCommands;
+    }
+
+    /**
+     * Runs every mission against {@code obstacles} alone and returns each
+     * rover's final state, in mission order. The obstacle set is only read.
+     */
+    public List<Coordinates> run(List<Mission> missions, int minX, int minY, int maxX, int maxY,
+                                 Set<Position> obstacles) {
+        int n = missions.size();
+        Mission[] byMission = missions.toArray(new Mission[0]);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sort(order, new int[n], 0, n, byMission);
+
+        CommandProgram[] programs = new CommandProgram[n];
+        for (int i = 0; i < n; i++) {
+            programs[i] = byMission[order[i]].getProgram();
+        }
+
+        Coordinates cursor = new Coordinates(0, 0, Direction.NORTH);
+        cursor.setBorder(minX, minY, maxX, maxY);
+        cursor.setBlockers(obstacles);
+        int[] x = new int[n];
+        int[] y = new int[n];
+        Direction[] direction = new Direction[n];
+        long simulated = 0;
+
+        for (int from = 0; from < n; ) {
+            Mission first = byMission[order[from]];
+            int to = from + 1;
+            while (to < n && samePose(first, byMission[order[to]])) {
+                to++;
+            }
+            Deque<Branch> branches = new ArrayDeque<>();
+            branches.push(new Branch(from, to, 0, first.getX(), first.getY(), first.getDirection()));
+            while (!branches.isEmpty()) {
+                Branch branch = branches.pop();
+                CommandProgram head = programs[branch.from];
+                int end = branch.to - branch.from == 1
+                        ? head.length()
+                        : head.mismatch(programs[branch.to - 1], branch.depth);
+
+                cursor.setPosition(branch.x, branch.y);
+                cursor.setDirection(branch.direction);
+                cursor.execute(head, branch.depth, end);
+                simulated += end - branch.depth;
+
+                // Programs that end here sort first, then one block per opcode at position end
+                int lo = branch.from;
+                int hi = upperBound(programs, lo, branch.to, end, -1);
+                for (int i = lo; i < hi; i++) {
+                    x[order[i]] = cursor.getX();
+                    y[order[i]] = cursor.getY();
+                    direction[order[i]] = cursor.getDirection();
+                }
+                while (hi < branch.to) {
+                    lo = hi;
+                    hi = upperBound(programs, lo, branch.to, end, programs[lo].opcodeAt(end));
+                    branches.push(new Branch(lo, hi, end, cursor.getX(), cursor.getY(), cursor.getDirection()));
+                }
+            }
+            from = to;
+        }
+        lastSimulatedCommands = simulated;
+
+        List<Coordinates> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Coordinates rover = new Coordinates(x[i], y[i], direction[i]);
+            rover.setBorder(minX, minY, maxX, maxY);
+            rover.setBlockers(obstacles);
+            result.add(rover);
+        }
+        return result;
+    }
+
+    /**
+     * Merge sort of the mission indices {@code order[from, to)} by start pose
+     * and then program, on primitive indices with a direct comparison.
+     * {@code scratch} must be as long as {@code order}.
+     */
+    private static void sort(int[] order, int[] scratch, int from, int to, Mission[] missions) {
+        if (to - from <= INSERTION_SORT_LIMIT) {
+            for (int i = from + 1; i < to; i++) {
+                int index = order[i];
+                int j = i - 1;
+                while (j >= from && compare(missions[order[j]], missions[index]) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(order, scratch, from, middle, missions);
+        sort(order, scratch, middle, to, missions);
+        if (compare(missions[order[middle - 1]], missions[order[middle]]) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || (left < middle && compare(missions[scratch[left]], missions[scratch[right]]) <= 0)) {
+                order[i] = scratch[left++];
+            } else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+
+    private static int compare(Mission a, Mission b) {
+        int result = Integer.compare(a.getX(), b.getX());
+        if (result == 0) {
+            result = Integer.compare(a.getY(), b.getY());
+        }
+        if (result == 0) {
+            result = Integer.compare(a.getDirection().ordinal(), b.getDirection().ordinal());
+        }
+        return result != 0 ? result : CommandProgram.compare(a.getProgram(), b.getProgram());
+    }
+
+    private static boolean samePose(Mission a, Mission b) {
+        return a.getX() == b.getX() && a.getY() == b.getY() && a.getDirection() == b.getDirection();
+    }
+
+    /**
+     * End of the block in {@code programs[from, to)} whose key at {@code position}
+     * is at most {@code key}, where a program that ends at {@code position} has
+     * key {@code -1}. Keys are sorted because the programs are.
+     */
+    private static int upperBound(CommandProgram[] programs, int from, int to, int position, int key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            CommandProgram program = programs[mid];
+            int midKey = program.length() == position ? -1 : program.opcodeAt(position);
+            if (midKey <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * A range of sorted programs sharing their first {@code depth} commands,
+     * and the pose reached after running them.
+     */
+    private static final class Branch {
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final int x;
+        private final int y;
+        private final Direction direction;
+
+        Branch(int from, int to, int depth, int x, int y, Direction direction) {
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.marsrover;
+
+/**
+ * Net effect of running a program in free space: a quarter-turn rotation,
+ * a displacement and the bounding box of every cell the rover passes through.
+ * <p>
+ * Values are expressed in the frame of a rover that starts facing north at
+ * the origin and are rotated to the actual heading when applied. Because
+ * movement without obstacles is a rigid transform, transforms compose, and
+ * {@link #power(long)} gives the effect of N repetitions by squaring. The
+ * transform is only exact for a start pose whose swept box lies inside the
+ * border and contains no blocker; {@link #isClearFrom(Coordinates)} checks that.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ProgramTransform {
+
+    public static final ProgramTransform IDENTITY = new ProgramTransform(0, 0, 0, 0, 0, 0, 0);
+
+    private final int rotation; // Quarter turns to the right, 0..3
+    private final long dx;
+    private final long dy;
+    private final long minX;
+    private final long minY;
+    private final long maxX;
+    private final long maxY;
+
+    private ProgramTransform(int rotation, long dx, long dy, long minX, long minY, long maxX, long maxY) {
+        this.rotation = rotation;
+        this.dx = dx;
+        this.dy = dy;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    public static ProgramTransform of(CommandProgram program) {
+        return of(program, 0, program.length());
+    }
+
+    /**
+     * The transform of commands {@code [from, to)} of a program.
+     */
+    static ProgramTransform of(CommandProgram program, int from, int to) {
+        int heading = 0;
+        long x = 0;
+        long y = 0;
+        long minX = 0;
+        long minY = 0;
+        long maxX = 0;
+        long maxY = 0;
+        int i = from;
+        while (i < to) {
+            byte op = program.opcodeAt(i);
+            int end = i + 1;
+            while (end < to && program.opcodeAt(end) == op) {
+                end++;
+            }
+            int length = end - i;
+            if (op == CommandProgram.MOVE) {
+                x += (long) length * rotateX(0, 1, heading);
+                y += (long) length * rotateY(0, 1, heading);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            } else {
+                heading = Math.floorMod(heading + (op == CommandProgram.LEFT ? -length : length), 4);
+            }
+            i = end;
+        }
+        return new ProgramTransform(heading, x, y, minX, minY, maxX, maxY);
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public long getDeltaX() {
+        return dx;
+    }
+
+    public long getDeltaY() {
+        return dy;
+    }
+
+    /**
+     * The transform of running this program and then {@code next}.
+     */
+    public ProgramTransform then(ProgramTransform next) {
+        long nextDx = rotateX(next.dx, next.dy, rotation);
+        long nextDy = rotateY(next.dx, next.dy, rotation);
+        long ax = rotateX(next.minX, next.minY, rotation);
+        long ay = rotateY(next.minX, next.minY, rotation);
+        long bx = rotateX(next.maxX, next.maxY, rotation);
+        long by = rotateY(next.maxX, next.maxY, rotation);
+        return new ProgramTransform((rotation + next.rotation) & 3,
+                add(dx, nextDx), add(dy, nextDy),
+                Math.min(minX, add(dx, Math.min(ax, bx))),
+                Math.min(minY, add(dy, Math.min(ay, by))),
+                Math.max(maxX, add(dx, Math.max(ax, bx))),
+                Math.max(maxY, add(dy, Math.max(ay, by))));
+    }
+
+    /**
+     * The transform of {@code repetitions} consecutive runs, by exponentiation by squaring.
+     */
+    public ProgramTransform power(long repetitions) {
+        ProgramTransform result = IDENTITY;
+        ProgramTransform base = this;
+        while (repetitions > 0) {
+            if ((repetitions & 1) != 0) {
+                result = result.then(base);
+            }
+            repetitions >>>= 1;
+            if (repetitions > 0) {
+                base = base.then(base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether applying this transform to the rover's current pose is exact:
+     * every cell swept is inside the border and free of blockers.
+     */
+    boolean isClearFrom(Coordinates rover) {
+        return isClearFrom(rover, rover.getX(), rover.getY(), rover.getDirection().ordinal());
+    }
+
+    /**
+     * Same as {@link #isClearFrom(Coordinates)} for a start pose other than the
+     * rover's own, using only the rover's border and blockers.
+     */
+    boolean isClearFrom(Coordinates rover, long x, long y, int heading) {
+        long ax = add(x, rotateX(minX, minY, heading));
+        long ay = add(y, rotateY(minX, minY, heading));
+        long bx = add(x, rotateX(maxX, maxY, heading));
+        long by = add(y, rotateY(maxX, maxY, heading));
+        long boxMinX = Math.min(ax, bx);
+        long boxMinY = Math.min(ay, by);
+        long boxMaxX = Math.max(ax, bx);
+        long boxMaxY = Math.max(ay, by);
+        return boxMinX >= rover.getMinX() && boxMaxX <= rover.getMaxX()
+                && boxMinY >= rover.getMinY() && boxMaxY <= rover.getMaxY()
+                && rover.getBlockerIndex().isRegionClear((int) boxMinX, (int) boxMinY, (int) boxMaxX, (int) boxMaxY);
+    }
+
+    void applyTo(Coordinates rover) {
+        int heading = rover.getDirection().ordinal();
+        rover.setPosition((int) (rover.getX() + rotateX(dx, dy, heading)),
+                (int) (rover.getY() + rotateY(dx, dy, heading)));
+        rover.setDirection(rover.getDirection().rotate(rotation));
+    }
+
+    /**
+     * Coordinates reached by applying this transform to a start pose facing {@code heading}.
+     */
+    long endX(long x, int heading) {
+        return add(x, rotateX(dx, dy, heading));
+    }
+
+    long endY(long y, int heading) {
+        return add(y, rotateY(dx, dy, heading));
+    }
+
+    // Rotates (x, y) by 'turns' quarter turns to the right: north-frame (0, 1) becomes the heading's delta.
+    static long rotateX(long x, long y, int turns) {
+        switch (turns & 3) {
+            case 0: return x;
+            case 1: return y;
+            case 2: return -x;
+            default: return -y;
+        }
+    }
+
+    static long rotateY(long x, long y, int turns) {
+        switch (turns & 3) {
+            case 0: return y;
+            case 1: return -x;
+            case 2: return -y;
+            default: return x;
+        }
+    }
+
+    // Saturating add so that repeated squaring of a drifting program cannot wrap around
+    private static long add(long a, long b) {
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0) {
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "rotate " + rotation + " move " + dx + " " + dy
+                + " within [" + minX + " " + minY + ", " + maxX + " " + maxY + "]";
+    }
+}
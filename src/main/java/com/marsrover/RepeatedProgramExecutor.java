@@ -0,0 +1,91 @@
+package com.marsrover;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a program many times in a row on one rover.
+ * <p>
+ * Keeps the transforms of 1, 2, 4, ... repetitions and, from the current
+ * pose, applies the largest one whose swept box is inside the border and
+ * clear of blockers. Near obstacles no jump is clear and a single repetition
+ * is executed step by step, so the result always matches running the
+ * program {@code repetitions} times through {@link Coordinates#execute(CommandProgram)}.
+ * </p>
+ * <p>
+ * With the blockers fixed, the pose after each repetition is a function of
+ * the pose before it, so a rover that is stuck or oscillating among obstacles
+ * eventually revisits a pose. Poses at repetition boundaries are compared
+ * against a checkpoint using Brent's algorithm (the checkpoint moves forward
+ * at powers of two), which needs constant memory. Once a pose recurs after
+ * {@code p} repetitions, the remaining count is reduced modulo {@code p}.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class RepeatedProgramExecutor {
+
+    private RepeatedProgramExecutor() {
+    }
+
+    static void execute(Coordinates rover, CommandProgram program, long repetitions) {
+        if (repetitions <= 0 || program.length() == 0) {
+            return;
+        }
+        List<ProgramTransform> powers = new ArrayList<>();
+        powers.add(ProgramTransform.of(program));
+
+        long remaining = repetitions;
+        long done = 0;
+
+        // Brent's cycle detection over poses at repetition boundaries
+        int checkpointX = rover.getX();
+        int checkpointY = rover.getY();
+        Direction checkpointDirection = rover.getDirection();
+        long checkpointAt = 0;
+        long window = 1;
+        boolean cycleFound = false;
+
+        while (remaining > 0) {
+            int level = 63 - Long.numberOfLeadingZeros(remaining);
+            // Swept boxes only grow with the power, so stop at the first one that is not clear
+            int best = -1;
+            for (int k = 0; k <= level; k++) {
+                if (k == powers.size()) {
+                    ProgramTransform last = powers.get(k - 1);
+                    powers.add(last.then(last));
+                }
+                if (!powers.get(k).isClearFrom(rover)) {
+                    break;
+                }
+                best = k;
+            }
+            long step;
+            if (best >= 0) {
+                powers.get(best).applyTo(rover);
+                step = 1L << best;
+            } else {
+                rover.execute(program);
+                step = 1;
+            }
+            remaining -= step;
+            done += step;
+
+            if (!cycleFound && remaining > 0) {
+                if (rover.getX() == checkpointX && rover.getY() == checkpointY
+                        && rover.getDirection() == checkpointDirection) {
+                    remaining %= done - checkpointAt;
+                    cycleFound = true;
+                } else if (done - checkpointAt >= window) {
+                    checkpointX = rover.getX();
+                    checkpointY = rover.getY();
+                    checkpointDirection = rover.getDirection();
+                    checkpointAt = done;
+                    window <<= 1;
+                }
+            }
+        }
+    }
+}
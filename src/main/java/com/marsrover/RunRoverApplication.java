@@ -2,6 +2,13 @@ package com.marsrover;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -11,7 +18,21 @@ import java.util.*;
  * multiple rovers, boundary definitions, and collision detection. Can run
  * in interactive mode or process command-line arguments.
  * </p>
- * 
+ * <p>
+ * Leading options {@code --verbosity=trace|final|summary} and
+ * {@code --output=<file>} control what is reported and where; see {@link MissionOutput}.
+ * With {@code --parallel}, missions read through {@code --input} are run by a
+ * {@link FleetExecutor}, which needs {@code final} or {@code summary} verbosity;
+ * {@code --parallel=speculative} uses a {@link SpeculativeFleetExecutor} instead.
+ * {@code --simultaneous} moves all rovers one command per tick with a
+ * {@link TickFleetEngine}, under the same restrictions.
+ * </p>
+ * <p>
+ * {@code --input-binary <file>} runs missions in the packed binary format of
+ * {@link BinaryMissionWriter}; {@code --convert-to-binary <text> <binary>} and
+ * {@code --convert-to-text <binary> <text>} convert between the two formats.
+ * </p>
+ *
  * @author gracewee
  * @version 1.0
  * @since 1.0
@@ -19,18 +40,98 @@ import java.util.*;
 @SpringBootApplication
 public class RunRoverApplication {
 
+	private static final String INPUT_OPTION = "--input";
+	private static final String MAPPED_INPUT_OPTION = "--input-mapped";
+	private static final String BINARY_INPUT_OPTION = "--input-binary";
+	private static final String TO_BINARY_OPTION = "--convert-to-binary";
+	private static final String TO_TEXT_OPTION = "--convert-to-text";
+	private static final String VERBOSITY_OPTION = "--verbosity=";
+	private static final String OUTPUT_OPTION = "--output=";
+	private static final String PARALLEL_OPTION = "--parallel";
+	private static final String SPECULATIVE_OPTION = "--parallel=speculative";
+	private static final String SIMULTANEOUS_OPTION = "--simultaneous";
+
 	public static void main(String[] args) {
 
-		if (args.length > 0) {
-			// Parse command line arguments in format: "5 5 1 2 N LMLMLMLMM"
-			processRoverFromArgs(args);
-		} else {
-			// Run interactive mode or default demo
-			runDefaultDemo();
+		MissionOutput.Verbosity verbosity = MissionOutput.Verbosity.TRACE;
+		String outputPath = null;
+		boolean parallel = false;
+		boolean speculative = false;
+		boolean simultaneous = false;
+		int first = 0;
+		try {
+			for (; first < args.length; first++) {
+				if (args[first].startsWith(VERBOSITY_OPTION)) {
+					verbosity = MissionOutput.Verbosity.fromString(args[first].substring(VERBOSITY_OPTION.length()));
+				} else if (args[first].startsWith(OUTPUT_OPTION)) {
+					outputPath = args[first].substring(OUTPUT_OPTION.length());
+				} else if (args[first].equals(PARALLEL_OPTION)) {
+					parallel = true;
+				} else if (args[first].equals(SPECULATIVE_OPTION)) {
+					parallel = true;
+					speculative = true;
+				} else if (args[first].equals(SIMULTANEOUS_OPTION)) {
+					simultaneous = true;
+				} else {
+					break;
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error: " + e.getMessage() + ". Use trace, final or summary.");
+			return;
+		}
+		args = Arrays.copyOfRange(args, first, args.length);
+		if ((parallel || simultaneous) && (verbosity == MissionOutput.Verbosity.TRACE || args.length == 0 || !INPUT_OPTION.equals(args[0]))) {
+			System.err.println("Error: " + (simultaneous ? SIMULTANEOUS_OPTION : PARALLEL_OPTION)
+					+ " requires " + INPUT_OPTION + " and --verbosity=final or summary.");
+			return;
+		}
+
+		OutputStream stream = System.out;
+		try {
+			if (outputPath != null) {
+				stream = new BufferedOutputStream(new FileOutputStream(outputPath));
+			}
+		} catch (IOException e) {
+			System.err.println("Error opening output file " + outputPath + ": " + e.getMessage());
+			return;
+		}
+		MissionOutput output = new MissionOutput(stream, verbosity);
+
+		try {
+			if (args.length > 0 && INPUT_OPTION.equals(args[0])) {
+				// Stream missions from a file, or from stdin when the path is "-"
+				processRoverFromInput(args, output, parallel, speculative, simultaneous);
+			} else if (args.length > 0 && MAPPED_INPUT_OPTION.equals(args[0])) {
+				// Parse missions straight from a memory-mapped file
+				processRoverFromMappedInput(args, output);
+			} else if (args.length > 0 && BINARY_INPUT_OPTION.equals(args[0])) {
+				// Run packed programs from a binary mission file
+				processRoverFromBinaryInput(args, output);
+			} else if (args.length > 0 && (TO_BINARY_OPTION.equals(args[0]) || TO_TEXT_OPTION.equals(args[0]))) {
+				convertMissions(args);
+				return;
+			} else if (args.length > 0) {
+				// Parse command line arguments in format: "5 5 1 2 N LMLMLMLMM"
+				processRoverFromArgs(args, output);
+			} else {
+				// Run interactive mode or default demo
+				runDefaultDemo(output);
+			}
+			output.summary();
+		} finally {
+			output.flush();
+			if (outputPath != null) {
+				try {
+					stream.close();
+				} catch (IOException e) {
+					System.err.println("Error closing output file " + outputPath + ": " + e.getMessage());
+				}
+			}
 		}
 	}
 
-	private static void processRoverFromArgs(String[] args) {
+	private static void processRoverFromArgs(String[] args, MissionOutput output) {
 		try {
 			// Join all arguments into a single string (in case they're passed as separate args)
 			String input = String.join(" ", args);
@@ -41,7 +142,7 @@ public class RunRoverApplication {
 			// Read coordinates and direction
 			Position border = new Position(scanner.nextInt(), scanner.nextInt());
 
-			Set<Position> blockers = new HashSet<>();
+			Set<Position> blockers = BlockerSets.forBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
 			while (scanner.hasNext()) {
 				int posX = scanner.nextInt();
 				int posY = scanner.nextInt();
@@ -53,7 +154,7 @@ public class RunRoverApplication {
 				Coordinates rover = new Coordinates(posX,  posY, direction);
 				rover.setBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
 				rover.setBlockers(blockers);
-				System.out.println("Initial position: " + rover.toString());
+				output.initialPosition(rover);
 
 				if (scanner.hasNext()) {
 					String commands = scanner.next();
@@ -61,12 +162,10 @@ public class RunRoverApplication {
 						System.err.println("Error: Invalid commands '" + commands + "'.");
 						return;
 					}
-					for (String move : commands.split("")) {
-						rover.calculateNextMove(move);
-						System.out.println("After " + move + ": " + rover.toString());
-					}
+					runMission(rover, CommandProgram.compile(commands), commands, output);
+				} else {
+					runMission(rover, CommandProgram.EMPTY, output);
 				}
-				System.out.println("Final position: " + rover.toString());
 				blockers.add(rover.getPosition());
 			}
 
@@ -77,6 +176,146 @@ public class RunRoverApplication {
 		}
 	}
 
+	private static void processRoverFromInput(String[] args, MissionOutput output,
+											  boolean parallel, boolean speculative, boolean simultaneous) {
+		if (args.length != 2) {
+			System.err.println("Usage: java RunRoverApplication --input <mission file | ->");
+			return;
+		}
+		String path = args[1];
+		try (InputStream in = "-".equals(path) ? System.in : new FileInputStream(path);
+			 MissionReader reader = new MissionReader(in)) {
+			Position border = reader.readBorder();
+			Set<Position> blockers = BlockerSets.forBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+			Mission mission;
+			if (parallel || simultaneous) {
+				List<Mission> missions = new ArrayList<>();
+				while ((mission = reader.next()) != null) {
+					missions.add(mission);
+				}
+				List<Coordinates> rovers;
+				if (simultaneous) {
+					rovers = new TickFleetEngine(- border.getX(), - border.getY(), border.getX(), border.getY(),
+							BlockerSets.NONE).run(missions);
+				} else if (speculative) {
+					rovers = new SpeculativeFleetExecutor().run(missions,
+							- border.getX(), - border.getY(), border.getX(), border.getY(), blockers);
+				} else {
+					rovers = new FleetExecutor().run(missions,
+							- border.getX(), - border.getY(), border.getX(), border.getY(), blockers);
+				}
+				for (int i = 0; i < rovers.size(); i++) {
+					output.finalPosition(rovers.get(i), missions.get(i).getProgram().length());
+				}
+				return;
+			}
+			while ((mission = reader.next()) != null) {
+				Coordinates rover = new Coordinates(mission.getX(), mission.getY(), mission.getDirection().getSymbolAsString());
+				rover.setBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+				rover.setBlockers(blockers);
+				output.initialPosition(rover);
+				runMission(rover, mission.getProgram(), output);
+				blockers.add(rover.getPosition());
+			}
+		} catch (IOException e) {
+			System.err.println("Error reading missions from " + path + ": " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error parsing missions: " + e.getMessage());
+		}
+	}
+
+	private static void processRoverFromMappedInput(String[] args, MissionOutput output) {
+		if (args.length != 2) {
+			System.err.println("Usage: java RunRoverApplication --input-mapped <mission file>");
+			return;
+		}
+		String path = args[1];
+		try (MappedMissionReader reader = new MappedMissionReader(Path.of(path))) {
+			Position border = reader.readBorder();
+			Set<Position> blockers = BlockerSets.forBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+			while (reader.next()) {
+				Coordinates rover = new Coordinates(reader.getX(), reader.getY(), reader.getDirection().getSymbolAsString());
+				rover.setBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+				rover.setBlockers(blockers);
+				output.initialPosition(rover);
+				if (output.tracesSteps()) {
+					// Fail before the first traced step rather than part-way through
+					reader.getCommands().validate();
+				}
+				runMission(rover, reader.getCommands(), output);
+				blockers.add(rover.getPosition());
+			}
+		} catch (IOException e) {
+			System.err.println("Error reading missions from " + path + ": " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error parsing missions: " + e.getMessage());
+		}
+	}
+
+	private static void processRoverFromBinaryInput(String[] args, MissionOutput output) {
+		if (args.length != 2) {
+			System.err.println("Usage: java RunRoverApplication --input-binary <mission file | ->");
+			return;
+		}
+		String path = args[1];
+		try (InputStream in = "-".equals(path) ? System.in : new FileInputStream(path);
+			 BinaryMissionReader reader = new BinaryMissionReader(in)) {
+			Position border = reader.getBorder();
+			Set<Position> blockers = BlockerSets.forBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+			while (reader.next()) {
+				Coordinates rover = new Coordinates(reader.getX(), reader.getY(), reader.getDirection());
+				rover.setBorder(- border.getX(), - border.getY(), border.getX(), border.getY());
+				rover.setBlockers(blockers);
+				output.initialPosition(rover);
+				runMission(rover, reader.getCommands(), output);
+				blockers.add(rover.getPosition());
+			}
+		} catch (IOException e) {
+			System.err.println("Error reading missions from " + path + ": " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error parsing missions: " + e.getMessage());
+		}
+	}
+
+	private static void convertMissions(String[] args) {
+		if (args.length != 3) {
+			System.err.println("Usage: java RunRoverApplication " + args[0] + " <input file> <output file>");
+			return;
+		}
+		try (InputStream in = new FileInputStream(args[1]);
+			 OutputStream out = new FileOutputStream(args[2])) {
+			long count = TO_BINARY_OPTION.equals(args[0])
+					? MissionConverter.textToBinary(in, out)
+					: MissionConverter.binaryToText(in, out);
+			System.out.println("Converted " + count + " missions to " + args[2]);
+		} catch (IOException e) {
+			System.err.println("Error converting " + args[1] + ": " + e.getMessage());
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error parsing missions: " + e.getMessage());
+		}
+	}
+
+	private static void runMission(Coordinates rover, CommandSequence commands, MissionOutput output) {
+		runMission(rover, commands, null, output);
+	}
+
+	/**
+	 * Runs one rover's commands; trace output echoes each command as it appears
+	 * in {@code text}, or as {@link CommandSequence#symbolAt} gives it when
+	 * {@code text} is {@code null}.
+	 */
+	private static void runMission(Coordinates rover, CommandSequence commands, CharSequence text, MissionOutput output) {
+		if (output.tracesSteps()) {
+			for (int i = 0; i < commands.length(); i++) {
+				rover.calculateNextMove(commands.commandAt(i));
+				output.step(text != null ? text.charAt(i) : commands.symbolAt(i), rover);
+			}
+		} else {
+			rover.execute(commands);
+		}
+		output.finalPosition(rover, commands.length());
+	}
+
 	private static boolean isValidDirection(String direction) {
 		try {
 			Direction.fromString(direction);
@@ -87,23 +326,14 @@ public class RunRoverApplication {
 	}
 
 	private static boolean isValidCommands(String commands) {
-		try {
-			int idx = 0;
-			while (idx < commands.length()) {
-				Command.fromChar(commands.charAt(idx));
-				idx++;
-			}
-			return true;
-		} catch (IllegalArgumentException e) {
-			return false;
-		}
+		return CommandDecoder.firstInvalid(commands) < 0;
 	}
 
-	private static void runDefaultDemo() {
+	private static void runDefaultDemo(MissionOutput output) {
 		System.out.println("Running default demo...");
 
 		String[] args = new String[]{"5", "5", "1", "2", "N", "LMLMLMLMM", "3", "3", "E", "MMRMMRMRRM"};
-		processRoverFromArgs(args);
+		processRoverFromArgs(args, output);
 
 	}
 
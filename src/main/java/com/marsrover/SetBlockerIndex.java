@@ -0,0 +1,44 @@
+package com.marsrover;
+
+import java.util.Set;
+
+/**
+ * Adapts an arbitrary {@code Set<Position>} to {@link BlockerIndex}.
+ * <p>
+ * Used when callers hand {@link Coordinates} a plain collection such as a
+ * {@link java.util.HashSet}; the set stays the source of truth so later
+ * changes to it remain visible to the rover.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+class SetBlockerIndex implements BlockerIndex {
+
+    private final Set<Position> blockers;
+
+    SetBlockerIndex(Set<Position> blockers) {
+        this.blockers = blockers;
+    }
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        return blockers.contains(new Position(x, y));
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        return blockers.add(new Position(x, y));
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        return blockers.remove(new Position(x, y));
+    }
+
+    @Override
+    public int count() {
+        return blockers.size();
+    }
+}
@@ -0,0 +1,69 @@
+package com.marsrover;
+
+import java.util.Arrays;
+
+/**
+ * Growable sorted array of distinct {@code int}s with binary-search lookups.
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class SortedIntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    boolean add(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Index of the smallest value greater than {@code value}, or {@code size()} if none.
+     */
+    int higherIndex(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Index of the largest value less than {@code value}, or {@code -1} if none.
+     */
+    int lowerIndex(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        return index >= 0 ? index - 1 : -index - 2;
+    }
+}
@@ -0,0 +1,136 @@
+package com.marsrover;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a fleet optimistically in parallel and repairs the few rovers that were affected by earlier rovers.
+ * <p>
+ * First every rover runs in parallel against the obstacles alone, ignoring
+ * the final positions of earlier rovers, and records the straight path
+ * segments it actually moved along. Then, in mission order, each path is
+ * checked against the final positions of all earlier rovers with one ray
+ * query per segment on an {@link AxisBlockerSet}. A rover whose path never
+ * entered one of those cells would have moved identically in the sequential
+ * run, so its speculative result stands; the others are re-executed against
+ * the obstacles plus the earlier final positions. The output is identical
+ * to sequential execution, and when conflicts are rare almost all the work
+ * happens in the parallel phase.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpeculativeFleetExecutor {
+
+    private final ForkJoinPool pool;
+    private int lastReexecutions;
+
+    public SpeculativeFleetExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SpeculativeFleetExecutor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Number of rovers the last {@link #run} had to re-execute.
+     */
+    public int getLastReexecutions() {
+        return lastReexecutions;
+    }
+
+    /**
+     * Runs all missions and returns each rover's final state, in mission order.
+     * The obstacle set is only read.
+     */
+    public List<Coordinates> run(List<Mission> missions, int minX, int minY, int maxX, int maxY,
+                                 Set<Position> obstacles) {
+        int n = missions.size();
+        Coordinates[] results = new Coordinates[n];
+        int[][] paths = new int[n][];
+
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(i -> {
+            Coordinates rover = start(missions.get(i), minX, minY, maxX, maxY);
+            rover.setBlockers(obstacles);
+            paths[i] = executeRecordingPath(rover, missions.get(i).getProgram());
+            results[i] = rover;
+        })).join();
+
+        AxisBlockerSet finals = new AxisBlockerSet();
+        LayeredBlockerSet blockers = new LayeredBlockerSet(obstacles, finals);
+        int reexecutions = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isPathClear(paths[i], finals)) {
+                Coordinates rover = start(missions.get(i), minX, minY, maxX, maxY);
+                rover.setBlockers(blockers);
+                rover.execute(missions.get(i).getProgram());
+                results[i] = rover;
+                reexecutions++;
+            }
+            finals.block(results[i].getX(), results[i].getY());
+        }
+        lastReexecutions = reexecutions;
+        return Arrays.asList(results);
+    }
+
+    private static Coordinates start(Mission mission, int minX, int minY, int maxX, int maxY) {
+        Coordinates rover = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+        rover.setBorder(minX, minY, maxX, maxY);
+        return rover;
+    }
+
+    /**
+     * Runs the program and returns the cells entered as {x, y, direction, length}
+     * segments, or {@code null} if the path cannot be described that way
+     * (coordinates wrapping at the int range).
+     */
+    static int[] executeRecordingPath(Coordinates rover, CommandProgram program) {
+        CommandProgram.Segments segments = program.segments();
+        int[] path = new int[16];
+        int size = 0;
+        for (int s = 0, n = segments.count(); s < n; s++) {
+            byte op = segments.opcode(s);
+            int fromX = rover.getX();
+            int fromY = rover.getY();
+            rover.executeRun(op, segments.length(s));
+            if (op != CommandProgram.MOVE || (fromX == rover.getX() && fromY == rover.getY())) {
+                continue;
+            }
+            Direction direction = rover.getDirection();
+            long moved = (long) (rover.getX() - fromX) * direction.getDeltaX()
+                    + (long) (rover.getY() - fromY) * direction.getDeltaY();
+            long expectedX = fromX + moved * direction.getDeltaX();
+            long expectedY = fromY + moved * direction.getDeltaY();
+            if (moved <= 0 || expectedX != rover.getX() || expectedY != rover.getY()) {
+                return null;
+            }
+            if (size + 4 > path.length) {
+                path = Arrays.copyOf(path, path.length * 2);
+            }
+            path[size++] = fromX;
+            path[size++] = fromY;
+            path[size++] = direction.ordinal();
+            path[size++] = (int) moved;
+        }
+        return Arrays.copyOf(path, size);
+    }
+
+    private static boolean isPathClear(int[] path, BlockerIndex finals) {
+        if (path == null) {
+            return false;
+        }
+        Direction[] directions = Direction.values();
+        for (int i = 0; i < path.length; i += 4) {
+            if (finals.freeSteps(path[i], path[i + 1], directions[path[i + 2]], path[i + 3]) < path[i + 3]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,268 @@
+package com.marsrover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Moves a whole fleet simultaneously, one command per rover per tick.
+ * <p>
+ * At tick {@code t} every rover whose program is longer than {@code t} runs
+ * its command {@code t}. Turns always succeed. A move succeeds only if the
+ * target cell is on the plateau, is not an obstacle, was not occupied by any
+ * rover at the start of the tick, and no rover with a lower index targets the
+ * same cell. Rovers that finished their program stay where they are and keep
+ * blocking their cell.
+ * </p>
+ * <p>
+ * Each tick runs in three parallel phases over disjoint slices of the fleet.
+ * First, movers claim their target cell in an open-addressing claim table
+ * sized to the fleet rather than the plateau: the cell is inserted with CAS
+ * on an {@link AtomicLongArray} of keys and the mover's index is folded into
+ * the slot with an atomic minimum. Second, every mover reads its slot back
+ * and keeps its target only if it holds the lowest index. Third, winners
+ * update the occupancy bitmap, a CAS-updated {@link AtomicLongArray} with one
+ * bit per cell, and every claimed slot is cleared again. The result does not
+ * depend on the number of threads.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class TickFleetEngine {
+
+    private static final int SLICES_PER_THREAD = 4;
+    private static final int NO_TARGET = -1;
+
+    private final ForkJoinPool pool;
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+    private final long width;
+    private final BlockerIndex obstacles;
+
+    public TickFleetEngine(int minX, int minY, int maxX, int maxY, BlockerIndex obstacles) {
+        this(minX, minY, maxX, maxY, obstacles, ForkJoinPool.commonPool());
+    }
+
+    public TickFleetEngine(int minX, int minY, int maxX, int maxY, BlockerIndex obstacles, ForkJoinPool pool) {
+        if (!BlockerSets.fitsGrid(minX, minY, maxX, maxY)) {
+            long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+            throw new IllegalArgumentException("Border too large for simultaneous mode: " + cells + " cells");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.width = (long) maxX - minX + 1;
+        this.obstacles = obstacles;
+        this.pool = pool;
+    }
+
+    /**
+     * Runs all missions tick by tick and returns each rover's final state, in
+     * mission order. Every rover must start on the plateau, on its own cell.
+     */
+    public List<Coordinates> run(List<Mission> missions) {
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        Run run = new Run(missions, cells);
+        pool.submit(run::execute).join();
+
+        List<Coordinates> result = new ArrayList<>(missions.size());
+        for (int i = 0; i < missions.size(); i++) {
+            Coordinates rover = new Coordinates(run.x[i], run.y[i], Direction.values()[run.dir[i]]);
+            rover.setBorder(minX, minY, maxX, maxY);
+            result.add(rover);
+        }
+        return result;
+    }
+
+    private long cellOf(int x, int y) {
+        return (y - (long) minY) * width + (x - (long) minX);
+    }
+
+    private static boolean isSet(AtomicLongArray bits, long cell) {
+        return (bits.get((int) (cell >>> 6)) & (1L << cell)) != 0;
+    }
+
+    private static void set(AtomicLongArray bits, long cell, long mask) {
+        int word = (int) (cell >>> 6);
+        long old;
+        do {
+            old = bits.get(word);
+        } while (!bits.compareAndSet(word, old, old | mask));
+    }
+
+    private static void clear(AtomicLongArray bits, long cell, long mask) {
+        int word = (int) (cell >>> 6);
+        long old;
+        do {
+            old = bits.get(word);
+        } while (!bits.compareAndSet(word, old, old & ~mask));
+    }
+
+    /**
+     * State of one {@link #run}: the fleet as parallel arrays plus the
+     * occupancy bitmap and the claim table.
+     */
+    private final class Run {
+
+        private final int n;
+        private final int[] x;
+        private final int[] y;
+        private final byte[] dir;
+        private final CommandProgram[] programs;
+        private final long[] target;
+        private final int[] claimSlot;
+        private final AtomicLongArray occupied;
+        private final AtomicLongArray claimCells; // Target cell + 1 per slot, 0 when free
+        private final AtomicIntegerArray claimWinners; // Lowest claiming rover per slot
+        private final int claimMask;
+        private final int slices;
+        private final int ticks;
+
+        Run(List<Mission> missions, long cells) {
+            this.n = missions.size();
+            this.x = new int[n];
+            this.y = new int[n];
+            this.dir = new byte[n];
+            this.programs = new CommandProgram[n];
+            this.target = new long[n];
+            this.claimSlot = new int[n];
+            this.occupied = new AtomicLongArray((int) ((cells + 63) >>> 6));
+            // At most n claims per tick, so the table is never more than half full
+            int capacity = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(8L, n) * 4 - 1));
+            this.claimCells = new AtomicLongArray(capacity);
+            this.claimWinners = new AtomicIntegerArray(capacity);
+            for (int slot = 0; slot < capacity; slot++) {
+                claimWinners.set(slot, Integer.MAX_VALUE);
+            }
+            this.claimMask = capacity - 1;
+            int longest = 0;
+            for (int i = 0; i < n; i++) {
+                Mission mission = missions.get(i);
+                if (mission.getX() < minX || mission.getX() > maxX || mission.getY() < minY || mission.getY() > maxY) {
+                    throw new IllegalArgumentException("Rover " + i + " starts outside the border: " + mission);
+                }
+                long cell = cellOf(mission.getX(), mission.getY());
+                if (isSet(occupied, cell)) {
+                    throw new IllegalArgumentException("Rover " + i + " starts on an occupied cell: " + mission);
+                }
+                set(occupied, cell, 1L << cell);
+                x[i] = mission.getX();
+                y[i] = mission.getY();
+                dir[i] = (byte) mission.getDirection().ordinal();
+                programs[i] = mission.getProgram();
+                longest = Math.max(longest, mission.getProgram().length());
+            }
+            this.ticks = longest;
+            this.slices = Math.max(1, Math.min(n, pool.getParallelism() * SLICES_PER_THREAD));
+        }
+
+        void execute() {
+            for (int tick = 0; tick < ticks; tick++) {
+                int t = tick;
+                forEachSlice((from, to) -> claim(t, from, to));
+                forEachSlice(this::resolve);
+                forEachSlice((from, to) -> apply(t, from, to));
+            }
+        }
+
+        private void forEachSlice(SliceTask task) {
+            if (slices == 1) {
+                task.run(0, n);
+                return;
+            }
+            IntStream.range(0, slices).parallel().forEach(s ->
+                    task.run((int) ((long) n * s / slices), (int) ((long) n * (s + 1) / slices)));
+        }
+
+        private void claim(int tick, int from, int to) {
+            Direction[] directions = Direction.values();
+            for (int i = from; i < to; i++) {
+                target[i] = NO_TARGET;
+                claimSlot[i] = NO_TARGET;
+                if (tick >= programs[i].length() || programs[i].opcodeAt(tick) != CommandProgram.MOVE) {
+                    continue;
+                }
+                Direction direction = directions[dir[i]];
+                long nextX = (long) x[i] + direction.getDeltaX();
+                long nextY = (long) y[i] + direction.getDeltaY();
+                if (nextX < minX || nextX > maxX || nextY < minY || nextY > maxY
+                        || obstacles.isBlocked((int) nextX, (int) nextY)) {
+                    continue;
+                }
+                long cell = cellOf((int) nextX, (int) nextY);
+                if (isSet(occupied, cell)) {
+                    continue;
+                }
+                target[i] = cell;
+                claimSlot[i] = claim(cell, i);
+            }
+        }
+
+        // Inserts the cell if needed and lowers its slot's winner to 'rover'; returns the slot.
+        private int claim(long cell, int rover) {
+            long key = cell + 1;
+            int slot = (int) PackedBlockerSet.mix(cell) & claimMask;
+            while (true) {
+                long existing = claimCells.compareAndExchange(slot, 0, key);
+                if (existing == 0 || existing == key) {
+                    claimWinners.accumulateAndGet(slot, rover, Math::min);
+                    return slot;
+                }
+                slot = (slot + 1) & claimMask;
+            }
+        }
+
+        /**
+         * Every claim of the tick is in the table by now, so a mover that is
+         * not its slot's winner lost the cell to a lower index.
+         */
+        private void resolve(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (target[i] != NO_TARGET && claimWinners.get(claimSlot[i]) != i) {
+                    target[i] = NO_TARGET;
+                }
+            }
+        }
+
+        private void apply(int tick, int from, int to) {
+            Direction[] directions = Direction.values();
+            for (int i = from; i < to; i++) {
+                if (tick >= programs[i].length()) {
+                    continue;
+                }
+                byte op = programs[i].opcodeAt(tick);
+                if (op == CommandProgram.LEFT) {
+                    dir[i] = (byte) directions[dir[i]].turnLeft().ordinal();
+                } else if (op == CommandProgram.RIGHT) {
+                    dir[i] = (byte) directions[dir[i]].turnRight().ordinal();
+                } else if (target[i] != NO_TARGET) {
+                    long cell = target[i];
+                    long old = cellOf(x[i], y[i]);
+                    clear(occupied, old, 1L << old);
+                    set(occupied, cell, 1L << cell);
+                    Direction direction = directions[dir[i]];
+                    x[i] += direction.getDeltaX();
+                    y[i] += direction.getDeltaY();
+                }
+                if (claimSlot[i] != NO_TARGET) {
+                    // Losers clear too; every claimant of a slot writes the same values
+                    claimCells.set(claimSlot[i], 0);
+                    claimWinners.set(claimSlot[i], Integer.MAX_VALUE);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SliceTask {
+        void run(int from, int to);
+    }
+}
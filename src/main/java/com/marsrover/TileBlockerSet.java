@@ -0,0 +1,358 @@
+package com.marsrover;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Sparse blocker set for unbounded plateaus, stored as 64x64 bitmap tiles.
+ * <p>
+ * Tile {@code (x >> 6, y >> 6)} holds its cells in a {@code long[64]}, one
+ * word per row with bit {@code x & 63} for the column: 512 bytes for 4096
+ * cells. Tiles live in an open-addressing map keyed on the packed tile
+ * coordinates, with linear probing over a primitive {@code long[]} like
+ * {@link PackedBlockerSet}, and a tile is removed as soon as its last cell is
+ * cleared. A lookup is one map probe and one bit test, and memory grows with
+ * the number of occupied tiles, so dense clusters of obstacles cost far less
+ * than one map slot each while scattered single cells cost a whole tile.
+ * </p>
+ * <p>
+ * Horizontal rays test up to 64 cells of a tile row with one word, and rays
+ * and region checks skip missing tiles without looking at their cells.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+public class TileBlockerSet extends AbstractBlockerSet {
+
+    static final int TILE_SHIFT = 6;
+    static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int CELL_MASK = TILE_SIZE - 1;
+
+    // Tile coordinates fit in 26 bits, so no tile packs to this key
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private long[][] tiles;
+    private int mask;
+    private int tileCount;
+    private int resizeAt;
+    private int size;
+
+    public TileBlockerSet() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Number of tiles currently allocated.
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    @Override
+    public boolean isBlocked(int x, int y) {
+        long[] tile = tile(x >> TILE_SHIFT, y >> TILE_SHIFT);
+        return tile != null && (tile[y & CELL_MASK] & (1L << x)) != 0;
+    }
+
+    @Override
+    public boolean block(int x, int y) {
+        long key = PackedBlockerSet.pack(x >> TILE_SHIFT, y >> TILE_SHIFT);
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        long[] tile = tiles[slot];
+        if (tile == null) {
+            tile = new long[TILE_SIZE];
+            keys[slot] = key;
+            tiles[slot] = tile;
+            if (++tileCount > resizeAt) {
+                rehash(keys.length << 1);
+            }
+        } else if ((tile[y & CELL_MASK] & (1L << x)) != 0) {
+            return false;
+        }
+        tile[y & CELL_MASK] |= 1L << x;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean unblock(int x, int y) {
+        long key = PackedBlockerSet.pack(x >> TILE_SHIFT, y >> TILE_SHIFT);
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        long[] tile = tiles[slot];
+        if ((tile[y & CELL_MASK] & (1L << x)) == 0) {
+            return false;
+        }
+        tile[y & CELL_MASK] &= ~(1L << x);
+        size--;
+        modCount++;
+        if (isEmpty(tile)) {
+            shiftBack(slot);
+            tileCount--;
+        }
+        return true;
+    }
+
+    @Override
+    public int count() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        allocate(MIN_CAPACITY);
+        tileCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Walks the ray a tile at a time: missing tiles are skipped whole,
+     * horizontal rays test their stretch of the tile row with one word and
+     * vertical rays test one bit per row.
+     */
+    @Override
+    public long freeSteps(int x, int y, Direction direction, long limit) {
+        int dx = direction.getDeltaX();
+        int dy = direction.getDeltaY();
+        long steps = 0;
+        while (steps < limit) {
+            int nextX = x + dx;
+            int nextY = y + dy;
+            int column = nextX & CELL_MASK;
+            int row = nextY & CELL_MASK;
+            int inTile = dx > 0 ? TILE_SIZE - column
+                    : dx < 0 ? column + 1
+                    : dy > 0 ? TILE_SIZE - row
+                    : row + 1;
+            int span = (int) Math.min(inTile, limit - steps);
+            long[] tile = tile(nextX >> TILE_SHIFT, nextY >> TILE_SHIFT);
+            if (tile != null) {
+                int hit = firstBlocked(tile, column, row, dx, dy, span);
+                if (hit >= 0) {
+                    return steps + hit;
+                }
+            }
+            steps += span;
+            x += dx * span;
+            y += dy * span;
+        }
+        return steps;
+    }
+
+    // Offset of the first blocked cell among 'span' cells from (column, row) of a tile, or -1.
+    private static int firstBlocked(long[] tile, int column, int row, int dx, int dy, int span) {
+        if (dx > 0) {
+            long w = tile[row] >>> column;
+            if (span < TILE_SIZE) {
+                w &= (1L << span) - 1;
+            }
+            return w == 0 ? -1 : Long.numberOfTrailingZeros(w);
+        }
+        if (dx < 0) {
+            long w = tile[row] << (CELL_MASK - column);
+            if (span < TILE_SIZE) {
+                w &= -1L << (TILE_SIZE - span);
+            }
+            return w == 0 ? -1 : Long.numberOfLeadingZeros(w);
+        }
+        long bit = 1L << column;
+        for (int i = 0; i < span; i++) {
+            if ((tile[row + i * dy] & bit) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Looks at whichever is fewer: the tiles the rectangle spans or the
+     * allocated tiles, masking the rectangle's rows of each one.
+     */
+    @Override
+    public boolean isRegionClear(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY || size == 0) {
+            return true;
+        }
+        int fromTileX = minX >> TILE_SHIFT;
+        int toTileX = maxX >> TILE_SHIFT;
+        int fromTileY = minY >> TILE_SHIFT;
+        int toTileY = maxY >> TILE_SHIFT;
+        long spanned = ((long) toTileX - fromTileX + 1) * ((long) toTileY - fromTileY + 1);
+        if (spanned <= tileCount) {
+            for (int ty = fromTileY; ty <= toTileY; ty++) {
+                for (int tx = fromTileX; tx <= toTileX; tx++) {
+                    long[] tile = tile(tx, ty);
+                    if (tile != null && !isTileClear(tile, tx, ty, minX, minY, maxX, maxY)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key == EMPTY) {
+                continue;
+            }
+            int tx = PackedBlockerSet.unpackX(key);
+            int ty = PackedBlockerSet.unpackY(key);
+            if (tx >= fromTileX && tx <= toTileX && ty >= fromTileY && ty <= toTileY
+                    && !isTileClear(tiles[slot], tx, ty, minX, minY, maxX, maxY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTileClear(long[] tile, int tx, int ty, int minX, int minY, int maxX, int maxY) {
+        long originX = (long) tx << TILE_SHIFT;
+        long originY = (long) ty << TILE_SHIFT;
+        int fromColumn = (int) Math.max(0, minX - originX);
+        int toColumn = (int) Math.min(CELL_MASK, maxX - originX);
+        int fromRow = (int) Math.max(0, minY - originY);
+        int toRow = (int) Math.min(CELL_MASK, maxY - originY);
+        long columns = (-1L << fromColumn) & (-1L >>> (CELL_MASK - toColumn));
+        for (int row = fromRow; row <= toRow; row++) {
+            if ((tile[row] & columns) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Position> iterator() {
+        return new Iterator<>() {
+            private int slot = -1;
+            private int row;
+            private long remaining;
+
+            {
+                advance();
+            }
+
+            private void advance() {
+                while (remaining == 0) {
+                    if (slot >= 0 && ++row < TILE_SIZE) {
+                        remaining = tiles[slot][row];
+                        continue;
+                    }
+                    do {
+                        slot++;
+                    } while (slot < keys.length && keys[slot] == EMPTY);
+                    if (slot == keys.length) {
+                        return;
+                    }
+                    row = 0;
+                    remaining = tiles[slot][0];
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < keys.length;
+            }
+
+            @Override
+            public Position next() {
+                if (slot >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+                long key = keys[slot];
+                int column = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                Position position = new Position((PackedBlockerSet.unpackX(key) << TILE_SHIFT) + column,
+                        (PackedBlockerSet.unpackY(key) << TILE_SHIFT) + row);
+                advance();
+                return position;
+            }
+        };
+    }
+
+    private long[] tile(int tileX, int tileY) {
+        long key = PackedBlockerSet.pack(tileX, tileY);
+        int slot = slot(key);
+        long[] k = keys;
+        while (true) {
+            long existing = k[slot];
+            if (existing == key) {
+                return tiles[slot];
+            }
+            if (existing == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static boolean isEmpty(long[] tile) {
+        for (long row : tile) {
+            if (row != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Closes the gap left at 'slot' by moving later entries of the same probe chain back.
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            // Move the entry unless its home lies cyclically in (gap, next].
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                tiles[gap] = tiles[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        tiles[gap] = null;
+    }
+
+    private int slot(long key) {
+        return (int) PackedBlockerSet.mix(key) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldTiles = tiles;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                tiles[slot] = oldTiles[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        tiles = new long[capacity][];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -0,0 +1,154 @@
+package com.marsrover;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Set;
+
+/**
+ * Steps a whole {@link Fleet} in lockstep with the incubating Vector API.
+ * <p>
+ * Rovers are taken one {@link IntVector} of lanes at a time, and that group
+ * runs tick by tick until every lane has finished its program, with the
+ * poses and program counters held in vectors throughout. Each tick gathers
+ * the lanes' opcodes with one masked vector load from an {@code int} copy of
+ * the group's own commands, which are contiguous in the command buffer and
+ * are widened once per group into a scratch array the caller keeps between
+ * calls. Turns are {@code (dir ± 1) & 3}, and the move delta is
+ * computed from the direction ordinal without a table:
+ * {@code dx = (d & 1) * (2 - d)}, {@code dy = (1 - (d & 1)) * (1 - d)}.
+ * Lanes that would leave the border are masked out, and the obstacles of the
+ * remaining lanes are looked up with a gather on an {@code int[]} bitmap of
+ * the plateau, which {@link Fleet} builds once per obstacle state with
+ * {@link #bitmap}. Rovers do not block each other, so the result is the same
+ * as {@link Fleet#executeIndependently}.
+ * </p>
+ * <p>
+ * This class must only be loaded when the {@code jdk.incubator.vector}
+ * module is present, and the plateau must have at most 2^31 cells so that
+ * cell indices fit in an {@code int} lane; {@link Fleet#executeSwarm} checks both.
+ * </p>
+ *
+ * @author gracewee
+ * @version 1.0
+ * @since 1.0
+ */
+final class VectorFleetStepper {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorFleetStepper() {
+    }
+
+    /**
+     * Runs the programs of rovers {@code 0..size-1} and updates their poses in place.
+     * {@code bitmap} must come from {@link #bitmap} for the same border.
+     *
+     * @param ops scratch for the widened opcodes of one lane group, of any length
+     * @return the scratch array, grown if a lane group needed more room
+     */
+    static int[] execute(int size, int[] x, int[] y, byte[] dir, int[] offsets, byte[] commands,
+                         int minX, int minY, int maxX, int maxY, int[] bitmap, int[] ops) {
+        int width = maxX - minX + 1;
+        int[] pcs = new int[SPECIES.length()];
+        int[] words = new int[SPECIES.length()];
+        int[] dirs = new int[SPECIES.length()];
+
+        for (int i = 0; i < size; i += SPECIES.length()) {
+            int groupSize = Math.min(SPECIES.length(), size - i);
+            int base = offsets[i];
+            int length = offsets[i + groupSize] - base;
+            if (ops.length < length) {
+                ops = new int[Math.max(length, 2 * ops.length)];
+            }
+            for (int k = 0; k < length; k++) {
+                ops[k] = commands[base + k];
+            }
+            for (int lane = 0; lane < groupSize; lane++) {
+                dirs[lane] = dir[i + lane];
+            }
+
+            VectorMask<Integer> lanes = SPECIES.indexInRange(i, size);
+            IntVector pc = IntVector.fromArray(SPECIES, offsets, i, lanes).sub(base);
+            IntVector end = IntVector.fromArray(SPECIES, offsets, i + 1, lanes).sub(base);
+            IntVector xv = IntVector.fromArray(SPECIES, x, i, lanes);
+            IntVector yv = IntVector.fromArray(SPECIES, y, i, lanes);
+            IntVector dv = IntVector.fromArray(SPECIES, dirs, 0, lanes);
+            VectorMask<Integer> active = lanes.and(pc.compare(VectorOperators.LT, end));
+
+            while (active.anyTrue()) {
+                pc.intoArray(pcs, 0);
+                IntVector op = IntVector.fromArray(SPECIES, ops, 0, pcs, 0, active);
+
+                VectorMask<Integer> left = op.compare(VectorOperators.EQ, CommandProgram.LEFT, active);
+                VectorMask<Integer> right = op.compare(VectorOperators.EQ, CommandProgram.RIGHT, active);
+                dv = dv.add(3, left).add(1, right).and(3);
+
+                VectorMask<Integer> move = op.compare(VectorOperators.EQ, CommandProgram.MOVE, active);
+                if (move.anyTrue()) {
+                    IntVector odd = dv.and(1);
+                    IntVector dx = odd.mul(IntVector.broadcast(SPECIES, 2).sub(dv));
+                    IntVector dy = odd.neg().add(1).mul(IntVector.broadcast(SPECIES, 1).sub(dv));
+                    IntVector nx = xv.add(dx);
+                    IntVector ny = yv.add(dy);
+
+                    VectorMask<Integer> inside = move
+                            .and(nx.compare(VectorOperators.GE, minX))
+                            .and(nx.compare(VectorOperators.LE, maxX))
+                            .and(ny.compare(VectorOperators.GE, minY))
+                            .and(ny.compare(VectorOperators.LE, maxY));
+                    if (inside.anyTrue()) {
+                        IntVector cell = ny.sub(minY).mul(width).add(nx.sub(minX));
+                        cell.lanewise(VectorOperators.LSHR, 5).intoArray(words, 0);
+                        IntVector word = IntVector.fromArray(SPECIES, bitmap, 0, words, 0, inside);
+                        VectorMask<Integer> blocked = word.lanewise(VectorOperators.LSHR, cell.and(31)).and(1)
+                                .compare(VectorOperators.NE, 0);
+                        VectorMask<Integer> moved = inside.andNot(blocked);
+                        xv = xv.blend(nx, moved);
+                        yv = yv.blend(ny, moved);
+                    }
+                }
+                pc = pc.add(1);
+                active = active.and(pc.compare(VectorOperators.LT, end));
+            }
+            xv.intoArray(x, i, lanes);
+            yv.intoArray(y, i, lanes);
+            dv.intoArray(dirs, 0, lanes);
+            for (int lane = 0; lane < groupSize; lane++) {
+                dir[i + lane] = (byte) dirs[lane];
+            }
+        }
+        return ops;
+    }
+
+    /**
+     * One bit per plateau cell, row-major, set for the obstacles inside the
+     * border. A {@link GridBlockerSet} over exactly this border already has
+     * that layout, so its words are split in two instead of visiting every
+     * obstacle.
+     */
+    static int[] bitmap(int minX, int minY, int maxX, int maxY, Set<Position> obstacles) {
+        long width = (long) maxX - minX + 1;
+        long cells = GridBlockerSet.cellCount(minX, minY, maxX, maxY);
+        int[] bitmap = new int[(int) ((cells + 31) >>> 5)];
+        if (obstacles instanceof GridBlockerSet && ((GridBlockerSet) obstacles).hasBounds(minX, minY, maxX, maxY)) {
+            GridBlockerSet grid = (GridBlockerSet) obstacles;
+            for (int i = 0; i < bitmap.length; i++) {
+                long word = grid.word(i >>> 1);
+                bitmap[i] = (i & 1) == 0 ? (int) word : (int) (word >>> 32);
+            }
+            return bitmap;
+        }
+        for (Position obstacle : obstacles) {
+            int px = obstacle.getX();
+            int py = obstacle.getY();
+            if (px >= minX && px <= maxX && py >= minY && py <= maxY) {
+                long cell = (py - (long) minY) * width + (px - (long) minX);
+                bitmap[(int) (cell >>> 5)] |= 1 << cell;
+            }
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,104 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AxisBlockerSet Tests")
+class AxisBlockerSetTest {
+
+    @Test
+    void shouldBlockAndUnblockCells() {
+        AxisBlockerSet blockers = new AxisBlockerSet();
+        assertTrue(blockers.block(3, 4));
+        assertFalse(blockers.block(3, 4));
+        assertTrue(blockers.isBlocked(3, 4));
+        assertFalse(blockers.isBlocked(4, 3));
+        assertEquals(Set.of(new Position(3, 4)), new HashSet<>(blockers));
+
+        assertTrue(blockers.unblock(3, 4));
+        assertTrue(blockers.isEmpty());
+    }
+
+    @Test
+    void shouldCastRaysAlongRowsAndColumns() {
+        AxisBlockerSet blockers = new AxisBlockerSet();
+        blockers.block(5, 0);
+        blockers.block(-3, 0);
+        blockers.block(0, 7);
+
+        assertEquals(4, blockers.freeSteps(0, 0, Direction.EAST, 100));
+        assertEquals(2, blockers.freeSteps(0, 0, Direction.WEST, 100));
+        assertEquals(6, blockers.freeSteps(0, 0, Direction.NORTH, 100));
+        assertEquals(100, blockers.freeSteps(0, 0, Direction.SOUTH, 100));
+        assertEquals(3, blockers.freeSteps(0, 0, Direction.EAST, 3));
+        assertEquals(0, blockers.freeSteps(4, 0, Direction.EAST, 3));
+    }
+
+    @Test
+    void shouldAgreeWithStepwiseRaysForAllBlockerSets() {
+        Random random = new Random(11);
+        Set<Position> cells = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            cells.add(new Position(random.nextInt(60) - 30, random.nextInt(60) - 30));
+        }
+        SetBlockerIndex reference = new SetBlockerIndex(cells);
+        for (Supplier<AbstractBlockerSet> factory : java.util.List.<Supplier<AbstractBlockerSet>>of(
+                AxisBlockerSet::new, PackedBlockerSet::new, () -> new GridBlockerSet(-20, -20, 20, 20))) {
+            AbstractBlockerSet blockers = factory.get();
+            blockers.addAll(cells);
+            for (int i = 0; i < 2000; i++) {
+                int x = random.nextInt(60) - 30;
+                int y = random.nextInt(60) - 30;
+                Direction direction = Direction.values()[random.nextInt(4)];
+                long limit = random.nextInt(40);
+                assertEquals(reference.freeSteps(x, y, direction, limit), blockers.freeSteps(x, y, direction, limit),
+                        blockers.getClass().getSimpleName() + " from " + x + " " + y + " " + direction);
+            }
+        }
+    }
+
+    @Test
+    void shouldExecuteMoveRunsLikeSingleSteps() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 200; trial++) {
+            StringBuilder commands = new StringBuilder();
+            for (int i = 0; i < 60; i++) {
+                commands.append(random.nextInt(4) == 0 ? "LRM".charAt(random.nextInt(3)) : 'M');
+            }
+            AbstractBlockerSet blockers = trial % 2 == 0 ? new AxisBlockerSet() : new GridBlockerSet(-8, -8, 8, 8);
+            for (int i = 0; i < 20; i++) {
+                blockers.block(random.nextInt(21) - 10, random.nextInt(21) - 10);
+            }
+            int startX = random.nextInt(21) - 10;
+            int startY = random.nextInt(21) - 10;
+
+            Coordinates expected = new Coordinates(startX, startY, "N");
+            expected.setBorder(-8, -8, 8, 8);
+            expected.setBlockers(new HashSet<>(blockers));
+            for (char c : commands.toString().toCharArray()) {
+                expected.calculateNextMove(String.valueOf(c));
+            }
+
+            Coordinates actual = new Coordinates(startX, startY, "N");
+            actual.setBorder(-8, -8, 8, 8);
+            actual.setBlockers(blockers);
+            actual.execute(CommandProgram.compile(commands));
+
+            assertEquals(expected.toString(), actual.toString(), commands + " from " + startX + " " + startY);
+        }
+    }
+
+    @Test
+    void shouldWrapAtIntRangeLikeSingleSteps() {
+        Coordinates coordinates = new Coordinates(Integer.MAX_VALUE - 1, 0, "E");
+        coordinates.execute(CommandProgram.compile("MMM"));
+        assertEquals((Integer.MIN_VALUE + 1) + " 0 E", coordinates.toString());
+    }
+}
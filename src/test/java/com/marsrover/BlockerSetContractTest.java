@@ -0,0 +1,102 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link AbstractBlockerSet} shares, checked against a
+ * {@link HashSet} and a cell-by-cell {@link SetBlockerIndex}. Grid-backed
+ * sets are created over {@code [-50, 70] x [-30, 40]}, so the random cells
+ * also land outside their bitmap.
+ */
+abstract class BlockerSetContractTest {
+
+    /**
+     * A new, empty blocker set of the type under test.
+     */
+    protected abstract AbstractBlockerSet newBlockerSet();
+
+    @Test
+    void shouldMatchHashSetUnderRandomOperations() {
+        AbstractBlockerSet blockers = newBlockerSet();
+        Set<Position> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            Position p = new Position(random.nextInt(160) - 80, random.nextInt(100) - 50);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(p), blockers.remove(p));
+            } else {
+                assertEquals(expected.add(p), blockers.add(p));
+            }
+        }
+
+        assertEquals(expected.size(), blockers.size());
+        assertEquals(expected, blockers);
+        assertEquals(expected, new HashSet<>(blockers));
+        for (int x = -80; x < 80; x++) {
+            for (int y = -50; y < 50; y++) {
+                assertEquals(expected.contains(new Position(x, y)), blockers.isBlocked(x, y));
+            }
+        }
+
+        blockers.clear();
+        assertEquals(0, blockers.count());
+        assertFalse(blockers.iterator().hasNext());
+    }
+
+    @Test
+    void shouldMatchCellWalkForFreeSteps() {
+        AbstractBlockerSet blockers = newBlockerSet();
+        Random random = new Random(3);
+        for (int i = 0; i < 300; i++) {
+            blockers.block(random.nextInt(160) - 80, random.nextInt(100) - 50);
+        }
+        BlockerIndex reference = new SetBlockerIndex(new HashSet<>(blockers));
+
+        for (int i = 0; i < 5_000; i++) {
+            int x = random.nextInt(200) - 100;
+            int y = random.nextInt(140) - 70;
+            Direction direction = Direction.values()[random.nextInt(4)];
+            long limit = random.nextInt(250);
+            assertEquals(reference.freeSteps(x, y, direction, limit), blockers.freeSteps(x, y, direction, limit),
+                    x + " " + y + " " + direction + " " + limit);
+        }
+    }
+
+    @Test
+    void shouldAnswerRaysOverEmptySetAtOnce() {
+        AbstractBlockerSet blockers = newBlockerSet();
+        blockers.block(0, 1);
+        blockers.clear();
+
+        for (Direction direction : Direction.values()) {
+            assertEquals(Integer.MAX_VALUE, blockers.freeSteps(0, 0, direction, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void shouldMatchCellScanForRegionQueries() {
+        AbstractBlockerSet blockers = newBlockerSet();
+        Random random = new Random(5);
+        for (int i = 0; i < 40; i++) {
+            blockers.block(random.nextInt(160) - 80, random.nextInt(100) - 50);
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            int minX = random.nextInt(160) - 80;
+            int minY = random.nextInt(100) - 50;
+            int maxX = minX + random.nextInt(60);
+            int maxY = minY + random.nextInt(40);
+            boolean clear = blockers.stream().noneMatch(p ->
+                    p.getX() >= minX && p.getX() <= maxX && p.getY() >= minY && p.getY() <= maxY);
+            assertEquals(clear, blockers.isRegionClear(minX, minY, maxX, maxY),
+                    minX + " " + minY + " " + maxX + " " + maxY);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandDecoder Tests")
+class CommandDecoderTest {
+
+    @Test
+    void shouldDecodeEveryCharLikeCommandFromChar() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            byte expected;
+            try {
+                expected = (byte) Command.fromChar(c).ordinal();
+            } catch (IllegalArgumentException e) {
+                expected = CommandDecoder.INVALID;
+            }
+            assertEquals(expected, CommandDecoder.opcode(c), "char " + (int) c);
+        }
+    }
+
+    @Test
+    void shouldReportFirstInvalidOffset() {
+        assertEquals(-1, CommandDecoder.firstInvalid("LMLMLMLMMrrmmll"));
+        assertEquals(-1, CommandDecoder.firstInvalid(""));
+        assertEquals(3, CommandDecoder.firstInvalid("LMLXM"));
+        assertEquals(0, CommandDecoder.firstInvalid(" "));
+
+        byte[] bytes = "MMMMMMMMMMMMMMMMlMMMMMMMM mm".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(25, CommandDecoder.firstInvalid(bytes, 0, bytes.length));
+        assertEquals(-1, CommandDecoder.firstInvalid(bytes, 0, 25));
+        assertEquals(-1, CommandDecoder.firstInvalid(bytes, 26, bytes.length));
+    }
+
+    @Test
+    void shouldMatchTableForRandomBytesInAllPaths() {
+        Random random = new Random(18);
+        byte[] alphabet = "LRMlrmLRMlrm NnEe-ìlÍí".getBytes(StandardCharsets.ISO_8859_1);
+        for (int trial = 0; trial < 2_000; trial++) {
+            byte[] bytes = new byte[random.nextInt(40)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = random.nextInt(4) == 0 ? (byte) random.nextInt(256) : alphabet[random.nextInt(alphabet.length)];
+            }
+            int from = bytes.length == 0 ? 0 : random.nextInt(bytes.length);
+            int expected = -1;
+            for (int i = from; i < bytes.length; i++) {
+                if (CommandDecoder.opcode((char) (bytes[i] & 0xFF)) == CommandDecoder.INVALID) {
+                    expected = i;
+                    break;
+                }
+            }
+
+            assertEquals(expected, CommandDecoder.firstInvalid(bytes, from, bytes.length));
+            assertEquals(expected, CommandDecoder.firstInvalid(ByteBuffer.wrap(bytes), from, bytes.length));
+            assertEquals(expected, CommandDecoder.firstInvalid(
+                    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), from, bytes.length));
+        }
+    }
+
+    @Test
+    void shouldDecodeValidPrefix() {
+        byte[] bytes = "LRMlrmMMMMx".getBytes(StandardCharsets.US_ASCII);
+        byte[] ops = new byte[12];
+
+        assertEquals(10, CommandDecoder.decode(bytes, 0, bytes.length, ops, 2));
+        assertArrayEquals(new byte[]{0, 0, 0, 1, 2, 0, 1, 2, 2, 2, 2, 2}, ops);
+    }
+}
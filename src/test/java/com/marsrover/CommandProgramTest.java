@@ -0,0 +1,72 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandProgram Tests")
+class CommandProgramTest {
+
+    @Test
+    void shouldCompileCaseInsensitiveCommands() {
+        CommandProgram program = CommandProgram.compile("LmR");
+        assertEquals(3, program.length());
+        assertEquals(Command.LEFT, program.commandAt(0));
+        assertEquals(Command.MOVE, program.commandAt(1));
+        assertEquals(Command.RIGHT, program.commandAt(2));
+        assertEquals("LMR", program.toString());
+    }
+
+    @Test
+    void shouldRejectInvalidCommandsWithOffset() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CommandProgram.compile("LMXM"));
+        assertTrue(exception.getMessage().contains("Invalid command: X at offset 2"));
+    }
+
+    @Test
+    void shouldCompileEmptyProgram() {
+        assertSame(CommandProgram.EMPTY, CommandProgram.compile(""));
+    }
+
+    @Test
+    void shouldCompareByContent() {
+        assertEquals(CommandProgram.compile("lmr"), CommandProgram.compile("LMR"));
+        assertEquals(CommandProgram.compile("LMR").hashCode(), CommandProgram.of(Command.LEFT, Command.MOVE, Command.RIGHT).hashCode());
+        assertNotEquals(CommandProgram.compile("LMR"), CommandProgram.compile("LMM"));
+    }
+
+    @Test
+    void shouldExecuteLikeSingleCommands() {
+        String commands = "LMLMLMLMMRMMRMRRMLMLMLMLMMRMMRMRRM";
+        Coordinates expected = new Coordinates(1, 2, "N");
+        Coordinates actual = new Coordinates(1, 2, "N");
+        expected.setBorder(-3, -3, 3, 3);
+        actual.setBorder(-3, -3, 3, 3);
+        expected.getBlockers().add(new Position(0, 0));
+        actual.getBlockers().add(new Position(0, 0));
+
+        for (char c : commands.toCharArray()) {
+            expected.calculateNextMove(String.valueOf(c));
+        }
+        actual.execute(CommandProgram.compile(commands));
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    void shouldFindMismatchAndOrderPrefixesFirst() {
+        CommandProgram a = CommandProgram.compile("MMRML");
+        CommandProgram b = CommandProgram.compile("MMRMM");
+        CommandProgram prefix = CommandProgram.compile("MMR");
+
+        assertEquals(4, a.mismatch(b, 0));
+        assertEquals(4, a.mismatch(b, 4));
+        assertEquals(3, a.mismatch(prefix, 1));
+        assertEquals(5, a.mismatch(a, 0));
+        assertTrue(CommandProgram.compare(prefix, a) < 0);
+        assertEquals(0, CommandProgram.compare(a, CommandProgram.compile("mmrml")));
+        assertEquals(-Integer.signum(CommandProgram.compare(a, b)), Integer.signum(CommandProgram.compare(b, a)));
+    }
+}
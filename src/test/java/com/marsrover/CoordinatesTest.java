@@ -190,6 +190,19 @@ class CoordinatesTest {
         assertEquals("1 2 N", coordinates.toString());
     }
 
+    @Test
+    void shouldKeepHandedOutDefaultBlockersOnBorder() {
+        coordinates.setPosition(0, 0);
+        coordinates.setDirection(Direction.NORTH);
+        Set<Position> blockers = coordinates.getBlockers();
+        coordinates.setBorder(-5, -5, 5, 5);
+        blockers.add(new Position(0, 1));
+
+        assertSame(blockers, coordinates.getBlockers());
+        coordinates.calculateNextMove(Command.MOVE);
+        assertEquals("0 0 N", coordinates.toString());
+    }
+
     @Test
     void shouldNotMoveIntoBlockerPosition() {
         Set<Position> blockers = new HashSet<>();
@@ -310,4 +323,25 @@ class CoordinatesTest {
 
     }
 
+
+    @Test
+    void shouldReuseReturnedPositionUntilRoverMoves() {
+        Position first = coordinates.getPosition();
+        coordinates.calculateNextMove(Command.LEFT);
+        assertSame(first, coordinates.getPosition());
+
+        coordinates.calculateNextMove(Command.MOVE);
+        assertEquals(new Position(-1, 0), coordinates.getPosition());
+        assertEquals(-1, coordinates.getX());
+        assertEquals(0, coordinates.getY());
+    }
+
+    @Test
+    void shouldKeepPositionWhenMoveIsBlocked() {
+        coordinates.getBlockers().add(new Position(0, 1));
+        Position before = coordinates.getPosition();
+        coordinates.calculateNextMove(Command.MOVE);
+        assertSame(before, coordinates.getPosition());
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DirectGridBlockerSet Tests")
+class DirectGridBlockerSetTest extends BlockerSetContractTest {
+
+    @Override
+    protected AbstractBlockerSet newBlockerSet() {
+        return new DirectGridBlockerSet(-50, -30, 70, 40);
+    }
+
+    @Test
+    void shouldAnswerRayAndRegionQueriesLikeGrid() {
+        Random random = new Random(23);
+        DirectGridBlockerSet direct = new DirectGridBlockerSet(-40, -40, 40, 40);
+        GridBlockerSet grid = new GridBlockerSet(-40, -40, 40, 40);
+        for (int i = 0; i < 300; i++) {
+            int x = random.nextInt(81) - 40;
+            int y = random.nextInt(81) - 40;
+            direct.block(x, y);
+            grid.block(x, y);
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            int x = random.nextInt(81) - 40;
+            int y = random.nextInt(81) - 40;
+            Direction direction = Direction.values()[random.nextInt(4)];
+            long limit = random.nextInt(100);
+            assertEquals(grid.freeSteps(x, y, direction, limit), direct.freeSteps(x, y, direction, limit));
+            int x2 = Math.min(40, x + random.nextInt(10));
+            int y2 = Math.min(40, y + random.nextInt(10));
+            assertEquals(grid.isRegionClear(x, y, x2, y2), direct.isRegionClear(x, y, x2, y2));
+        }
+    }
+
+    @Test
+    void shouldKeepObstaclesInMappedFile(@TempDir Path dir) {
+        Path file = dir.resolve("terrain.bits");
+        DirectGridBlockerSet blockers = new DirectGridBlockerSet(0, 0, 999, 999, file);
+        blockers.block(3, 4);
+        blockers.block(999, 999);
+
+        DirectGridBlockerSet reopened = new DirectGridBlockerSet(0, 0, 999, 999, file);
+
+        assertEquals(2, reopened.count());
+        assertTrue(reopened.isBlocked(3, 4));
+        assertTrue(reopened.isBlocked(999, 999));
+        assertFalse(reopened.isBlocked(4, 3));
+    }
+
+    @Test
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectGridBlockerSet(5, 0, 0, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DirectGridBlockerSet(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}
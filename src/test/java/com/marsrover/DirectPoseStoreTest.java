@@ -0,0 +1,70 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DirectPoseStore Tests")
+class DirectPoseStoreTest {
+
+    @Test
+    void shouldStorePosesAcrossSegments() {
+        DirectPoseStore poses = new DirectPoseStore(8, null);
+        assertEquals(0, poses.capacity());
+
+        poses.ensureCapacity(20);
+        assertEquals(24, poses.capacity());
+        for (int i = 0; i < 20; i++) {
+            poses.set(i, i * 1000, -i, Direction.values()[i % 4]);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i * 1000, poses.getX(i));
+            assertEquals(-i, poses.getY(i));
+            assertEquals(Direction.values()[i % 4], poses.getDirection(i));
+        }
+    }
+
+    @Test
+    void shouldKeepPosesInMappedFile(@TempDir Path dir) {
+        Path file = dir.resolve("poses.bin");
+        DirectPoseStore poses = new DirectPoseStore(4, file);
+        poses.ensureCapacity(6);
+        poses.set(5, Integer.MIN_VALUE, Integer.MAX_VALUE, Direction.WEST);
+
+        DirectPoseStore reopened = new DirectPoseStore(4, file);
+        reopened.ensureCapacity(6);
+
+        assertEquals(Integer.MIN_VALUE, reopened.getX(5));
+        assertEquals(Integer.MAX_VALUE, reopened.getY(5));
+        assertEquals(Direction.WEST, reopened.getDirection(5));
+    }
+
+    @Test
+    void shouldRejectInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectPoseStore(3, null));
+        assertThrows(IllegalArgumentException.class, () -> new DirectPoseStore(1 << 30, null));
+    }
+
+    @Test
+    void shouldRunFleetOffHeap() {
+        Random random = new Random(17);
+        List<Mission> missions = FleetExecutorTest.randomMissions(random, 300, 40, 30);
+        Fleet onHeap = new Fleet();
+        Fleet offHeap = new Fleet(new DirectPoseStore(64, null), 0);
+        missions.forEach(onHeap::add);
+        missions.forEach(offHeap::add);
+
+        onHeap.executeSequentially(-30, -30, 30, 30, new PackedBlockerSet());
+        offHeap.executeSequentially(-30, -30, 30, 30, new DirectGridBlockerSet(-30, -30, 30, 30));
+
+        for (int i = 0; i < missions.size(); i++) {
+            assertEquals(onHeap.poseToString(i), offHeap.poseToString(i), "rover " + i);
+        }
+    }
+}
@@ -61,4 +61,33 @@ class DirectionTest {
         assertTrue(exception.getMessage().contains("Invalid direction"));
     }
 
+
+    @Test
+    void shouldRotateByQuarterTurns() {
+        assertEquals(Direction.EAST, Direction.NORTH.rotate(1));
+        assertEquals(Direction.WEST, Direction.NORTH.rotate(-1));
+        assertEquals(Direction.SOUTH, Direction.WEST.rotate(7));
+        assertEquals(Direction.NORTH, Direction.NORTH.rotate(Integer.MAX_VALUE - 3));
+        assertEquals(Direction.NORTH, Direction.NORTH.rotate(-Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    void shouldParseEveryCharLikeCaseInsensitiveSymbolMatch() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            char upper = Character.toUpperCase(c);
+            Direction expected = null;
+            for (Direction direction : Direction.values()) {
+                if (direction.getSymbol() == upper) {
+                    expected = direction;
+                }
+            }
+            if (expected == null) {
+                char invalid = c;
+                assertThrows(IllegalArgumentException.class, () -> Direction.fromChar(invalid));
+            } else {
+                assertEquals(expected, Direction.fromChar(c), "char " + (int) c);
+            }
+        }
+        assertEquals(Direction.SOUTH, Direction.fromChar('\u017F'));
+    }
 }
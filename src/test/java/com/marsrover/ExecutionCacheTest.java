@@ -0,0 +1,132 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExecutionCache Tests")
+class ExecutionCacheTest {
+
+    private static final CommandProgram PROGRAM = CommandProgram.compile("MMMMRMMLM");
+
+    private static Coordinates rover(AbstractBlockerSet blockers) {
+        Coordinates rover = new Coordinates(0, 0, Direction.NORTH);
+        rover.setBorder(-10, -10, 10, 10);
+        rover.setBlockers(blockers);
+        return rover;
+    }
+
+    @Test
+    void shouldReturnCachedFinalPose() {
+        ExecutionCache cache = new ExecutionCache(10);
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        blockers.block(0, 3);
+
+        Coordinates first = rover(blockers);
+        cache.execute(first, PROGRAM);
+        Coordinates second = rover(blockers);
+        cache.execute(second, CommandProgram.compile("MMMMRMMLM"));
+
+        assertEquals("2 3 N", first.toString());
+        assertEquals(first.toString(), second.toString());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void shouldMissAfterObstaclesChange() {
+        ExecutionCache cache = new ExecutionCache(10);
+        GridBlockerSet blockers = new GridBlockerSet(-10, -10, 10, 10);
+        cache.execute(rover(blockers), PROGRAM);
+
+        blockers.block(0, 2);
+        Coordinates rover = rover(blockers);
+        cache.execute(rover, PROGRAM);
+
+        assertEquals("2 2 N", rover.toString());
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        cache.execute(rover(new GridBlockerSet(-10, -10, 10, 10)), PROGRAM);
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void shouldNotStoreRunsThatSawObstaclesChange() {
+        ExecutionCache cache = new ExecutionCache(10);
+        PackedBlockerSet blockers = new PackedBlockerSet() {
+            @Override
+            public long freeSteps(int x, int y, Direction direction, long limit) {
+                // Another thread adding an obstacle while the program runs
+                block(9, 9);
+                return super.freeSteps(x, y, direction, limit);
+            }
+        };
+        cache.execute(rover(blockers), PROGRAM);
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        ExecutionCache cache = new ExecutionCache(2);
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        CommandProgram a = CommandProgram.compile("M");
+        CommandProgram b = CommandProgram.compile("MM");
+        CommandProgram c = CommandProgram.compile("MMM");
+
+        cache.execute(rover(blockers), a);
+        cache.execute(rover(blockers), b);
+        cache.execute(rover(blockers), a);
+        cache.execute(rover(blockers), c);
+        cache.execute(rover(blockers), a);
+        cache.execute(rover(blockers), b);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void shouldBypassUnversionedBlockers() {
+        ExecutionCache cache = new ExecutionCache(10);
+        Coordinates rover = new Coordinates(0, 0, Direction.NORTH);
+        rover.setBlockers(new HashSet<>());
+
+        cache.execute(rover, PROGRAM);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits() + cache.getMisses());
+        assertEquals("2 5 N", rover.toString());
+    }
+
+    @Test
+    void shouldBumpVersionOnEveryChange() {
+        List<AbstractBlockerSet> sets = List.of(new PackedBlockerSet(), new GridBlockerSet(-5, -5, 5, 5),
+                new AxisBlockerSet(), new DirectGridBlockerSet(-5, -5, 5, 5), new LayeredBlockerSet(new PackedBlockerSet()));
+        for (AbstractBlockerSet set : sets) {
+            long version = set.version();
+            assertTrue(set.block(1, 1));
+            assertTrue(set.version() > version, set.getClass().getSimpleName());
+            version = set.version();
+            assertFalse(set.block(1, 1));
+            assertEquals(version, set.version(), set.getClass().getSimpleName());
+            assertTrue(set.block(100, 100));
+            assertTrue(set.version() > version, set.getClass().getSimpleName());
+            version = set.version();
+            assertTrue(set.unblock(1, 1));
+            assertTrue(set.version() > version, set.getClass().getSimpleName());
+            if (!(set instanceof LayeredBlockerSet)) {
+                version = set.version();
+                set.clear();
+                assertTrue(set.version() > version, set.getClass().getSimpleName());
+            }
+        }
+        assertNotEquals(sets.get(0).id(), sets.get(1).id());
+    }
+}
@@ -0,0 +1,102 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FleetExecutor Tests")
+class FleetExecutorTest {
+
+    static List<Mission> randomMissions(Random random, int count, int spread, int maxLength) {
+        List<Mission> missions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder commands = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                commands.append("LRMMM".charAt(random.nextInt(5)));
+            }
+            missions.add(new Mission(random.nextInt(2 * spread + 1) - spread, random.nextInt(2 * spread + 1) - spread,
+                    Direction.values()[random.nextInt(4)], CommandProgram.compile(commands)));
+        }
+        return missions;
+    }
+
+    static List<String> runSequentially(List<Mission> missions, int border, AbstractBlockerSet obstacles) {
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        blockers.addAll(obstacles);
+        List<String> poses = new ArrayList<>();
+        for (Mission mission : missions) {
+            Coordinates rover = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+            rover.setBorder(-border, -border, border, border);
+            rover.setBlockers(blockers);
+            rover.execute(mission.getProgram());
+            poses.add(rover.toString());
+            blockers.add(rover.getPosition());
+        }
+        return poses;
+    }
+
+    @Test
+    void shouldMatchSequentialExecution() {
+        Random random = new Random(99);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 20; trial++) {
+                int border = 10 + random.nextInt(200);
+                List<Mission> missions = randomMissions(random, 300, border + 2, 30);
+                GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+                for (int i = 0; i < border * 2; i++) {
+                    obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+                }
+
+                List<String> expected = runSequentially(missions, border, obstacles);
+                List<Coordinates> actual = new FleetExecutor(pool).run(missions, -border, -border, border, border, obstacles);
+
+                for (int i = 0; i < missions.size(); i++) {
+                    assertEquals(expected.get(i), actual.get(i).toString(), "rover " + i);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldOnlyDependOnNearbyBoxes() {
+        long[][] boxes = {
+                {0, 0, 2, 2},
+                {500, 500, 502, 502},
+                {2, 2, 4, 4},
+                {-300, -300, -298, -298}};
+        FleetExecutor.Dependencies dependencies = FleetExecutor.dependencies(boxes);
+        assertArrayEquals(new int[0], dependencies.of(0));
+        assertArrayEquals(new int[0], dependencies.of(1));
+        assertArrayEquals(new int[]{0}, dependencies.of(2));
+        assertArrayEquals(new int[0], dependencies.of(3));
+    }
+
+    @Test
+    void shouldOnlyLinkNearestEarlierConflict() {
+        long[][] boxes = new long[100][];
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i] = new long[]{0, 0, 10, 10};
+        }
+        FleetExecutor.Dependencies dependencies = FleetExecutor.dependencies(boxes);
+        assertEquals(boxes.length - 1, dependencies.targets.length);
+        for (int i = 1; i < boxes.length; i++) {
+            assertArrayEquals(new int[]{i - 1}, dependencies.of(i));
+        }
+    }
+
+    @Test
+    void shouldClipReachableBoxToBorder() {
+        Mission mission = new Mission(4, 0, Direction.NORTH, CommandProgram.compile("MMMRM"));
+        assertArrayEquals(new long[]{0, -4, 5, 4}, FleetExecutor.reachableBox(mission, -5, -5, 5, 5));
+    }
+}
@@ -0,0 +1,150 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Fleet Tests")
+class FleetTest {
+
+    @Test
+    void shouldStoreRoversAndPrograms() {
+        Fleet fleet = new Fleet(1, 1);
+        fleet.add(1, 2, Direction.NORTH, "LMLMLMLMM");
+        fleet.add(new Mission(3, 3, Direction.EAST, CommandProgram.compile("MMRMMRMRRM")));
+        fleet.add(0, 0, Direction.WEST, "");
+
+        assertEquals(3, fleet.size());
+        assertEquals(19, fleet.getCommandCount());
+        assertEquals(10, fleet.getProgramLength(1));
+        assertEquals(0, fleet.getProgramLength(2));
+        assertEquals("3 3 E", fleet.poseToString(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> fleet.getX(3));
+    }
+
+    @Test
+    void shouldRejectInvalidCommandsWithoutAddingRover() {
+        Fleet fleet = new Fleet();
+
+        assertThrows(IllegalArgumentException.class, () -> fleet.add(0, 0, Direction.NORTH, "MMX"));
+        assertEquals(0, fleet.size());
+        assertEquals(0, fleet.getCommandCount());
+    }
+
+    @Test
+    void shouldRunClassicMissionsSequentially() {
+        Fleet fleet = new Fleet();
+        fleet.add(1, 2, Direction.NORTH, "LMLMLMLMM");
+        fleet.add(3, 3, Direction.EAST, "MMRMMRMRRM");
+        fleet.add(1, 2, Direction.NORTH, "RMMMM");
+
+        fleet.executeSequentially(-5, -5, 5, 5, new HashSet<>());
+
+        assertEquals("1 3 N", fleet.poseToString(0));
+        assertEquals("5 1 E", fleet.poseToString(1));
+        assertEquals("5 2 E", fleet.poseToString(2));
+    }
+
+    @Test
+    void shouldMatchPerRoverExecution() {
+        Random random = new Random(15);
+        for (int trial = 0; trial < 10; trial++) {
+            int border = 10 + random.nextInt(100);
+            List<Mission> missions = FleetExecutorTest.randomMissions(random, 200, border + 2, 40);
+            GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+            for (int i = 0; i < border; i++) {
+                obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+            }
+            Fleet sequential = new Fleet();
+            Fleet independent = new Fleet();
+            missions.forEach(sequential::add);
+            missions.forEach(independent::add);
+
+            List<String> expected = FleetExecutorTest.runSequentially(missions, border, obstacles);
+            PackedBlockerSet blockers = new PackedBlockerSet();
+            blockers.addAll(obstacles);
+            sequential.executeSequentially(-border, -border, border, border, blockers);
+            independent.executeIndependently(-border, -border, border, border, obstacles);
+
+            for (int i = 0; i < missions.size(); i++) {
+                assertEquals(expected.get(i), sequential.poseToString(i), "rover " + i);
+                Mission mission = missions.get(i);
+                Coordinates alone = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+                alone.setBorder(-border, -border, border, border);
+                alone.setBlockers(obstacles);
+                alone.execute(mission.getProgram());
+                assertEquals(alone.toString(), independent.poseToString(i), "rover " + i);
+            }
+        }
+    }
+
+    @Test
+    void shouldAddFinalPositionsToPlainSets() {
+        Fleet fleet = new Fleet();
+        fleet.add(0, 0, Direction.NORTH, "MM");
+        Set<Position> blockers = new HashSet<>();
+
+        fleet.executeSequentially(-5, -5, 5, 5, blockers);
+
+        assertEquals(Set.of(new Position(0, 2)), blockers);
+    }
+
+    @Test
+    void shouldRunSwarmLikeIndependentExecution() {
+        Random random = new Random(16);
+        for (int trial = 0; trial < 10; trial++) {
+            int border = 5 + random.nextInt(60);
+            List<Mission> missions = FleetExecutorTest.randomMissions(random, 1 + random.nextInt(100), border + 2, 60);
+            GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+            for (int i = 0; i < border * 4; i++) {
+                obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+            }
+            Fleet swarm = new Fleet();
+            Fleet scalar = new Fleet();
+            missions.forEach(swarm::add);
+            missions.forEach(scalar::add);
+
+            // The second round reuses the swarm's scratch opcodes from the first
+            for (int round = 0; round < 2; round++) {
+                swarm.executeSwarm(-border, -border, border, border, obstacles);
+                scalar.executeIndependently(-border, -border, border, border, obstacles);
+
+                for (int i = 0; i < missions.size(); i++) {
+                    assertEquals(scalar.poseToString(i), swarm.poseToString(i), "round " + round + " rover " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldRebuildSwarmObstaclesWhenTheyChange() {
+        GridBlockerSet obstacles = new GridBlockerSet(-5, -5, 5, 5);
+        obstacles.block(0, 3);
+        Fleet fleet = new Fleet();
+        fleet.add(new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMMM")));
+
+        fleet.executeSwarm(-5, -5, 5, 5, obstacles);
+        assertEquals("0 2 N", fleet.poseToString(0));
+
+        obstacles.unblock(0, 3);
+        obstacles.block(0, 5);
+        fleet.add(new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMMMMM")));
+        fleet.executeSwarm(-5, -5, 5, 5, obstacles);
+        assertEquals("0 4 N", fleet.poseToString(0));
+        assertEquals("0 4 N", fleet.poseToString(1));
+
+        fleet.executeSwarm(-5, -5, 5, 5, Set.of(new Position(0, -1)));
+        assertEquals("0 5 N", fleet.poseToString(0));
+    }
+
+    @Test
+    void shouldUseVectorPathInTests() {
+        assertTrue(Fleet.VECTOR_AVAILABLE, "surefire should start the JVM with the incubator vector module");
+    }
+}
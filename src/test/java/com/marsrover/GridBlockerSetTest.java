@@ -0,0 +1,208 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GridBlockerSet Tests")
+class GridBlockerSetTest extends BlockerSetContractTest {
+
+    private final long originalBudget = BlockerSets.getGridCellBudget();
+
+    @AfterEach
+    void tearDown() {
+        BlockerSets.setGridCellBudget(originalBudget);
+    }
+
+    @Override
+    protected AbstractBlockerSet newBlockerSet() {
+        return new GridBlockerSet(-50, -30, 70, 40);
+    }
+
+    @Test
+    void shouldBlockCellsInsideAndOutsideGrid() {
+        GridBlockerSet blockers = new GridBlockerSet(-5, -5, 5, 5);
+        assertTrue(blockers.block(-5, -5));
+        assertTrue(blockers.block(5, 5));
+        assertTrue(blockers.block(100, -100));
+        assertFalse(blockers.block(5, 5));
+
+        assertTrue(blockers.isBlocked(-5, -5));
+        assertTrue(blockers.isBlocked(5, 5));
+        assertTrue(blockers.isBlocked(100, -100));
+        assertFalse(blockers.isBlocked(0, 0));
+        assertEquals(3, blockers.count());
+        assertEquals(Set.of(new Position(-5, -5), new Position(5, 5), new Position(100, -100)), new HashSet<>(blockers));
+
+        assertTrue(blockers.unblock(5, 5));
+        assertTrue(blockers.unblock(100, -100));
+        assertEquals(1, blockers.count());
+    }
+
+    @Test
+    void shouldAnswerRegionQueriesWhileCellsChange() {
+        GridBlockerSet blockers = new GridBlockerSet(-10, -8, 12, 9);
+        Random random = new Random(23);
+
+        for (int i = 0; i < 5_000; i++) {
+            int x = random.nextInt(23) - 10;
+            int y = random.nextInt(18) - 8;
+            if (random.nextInt(3) == 0) {
+                blockers.unblock(x, y);
+            } else if (random.nextInt(4) != 0) {
+                blockers.block(x, y);
+            }
+            if (random.nextInt(200) == 0) {
+                blockers.clear();
+            }
+            int ax = random.nextInt(23) - 10;
+            int bx = random.nextInt(23) - 10;
+            int ay = random.nextInt(18) - 8;
+            int by = random.nextInt(18) - 8;
+            int minX = Math.min(ax, bx);
+            int maxX = Math.max(ax, bx);
+            int minY = Math.min(ay, by);
+            int maxY = Math.max(ay, by);
+            assertEquals(isRegionClearByCells(blockers, minX, minY, maxX, maxY),
+                    blockers.isRegionClear(minX, minY, maxX, maxY), "query " + i);
+        }
+    }
+
+    @Test
+    void shouldCountWideRegionsWhileCellsChange() {
+        GridBlockerSet blockers = new GridBlockerSet(-130, -70, 129, 89);
+        Set<Position> expected = new HashSet<>();
+        Random random = new Random(29);
+
+        for (int i = 0; i < 5_000; i++) {
+            Position p = new Position(random.nextInt(260) - 130, random.nextInt(160) - 70);
+            if (expected.size() > 40 || random.nextInt(3) == 0) {
+                Position victim = expected.isEmpty() ? p : expected.iterator().next();
+                assertEquals(expected.remove(victim), blockers.unblock(victim.getX(), victim.getY()));
+            } else {
+                assertEquals(expected.add(p), blockers.block(p.getX(), p.getY()));
+            }
+            if (random.nextInt(1_000) == 0) {
+                blockers.clear();
+                expected.clear();
+            }
+            int minX = -130 + random.nextInt(130);
+            int minY = -70 + random.nextInt(80);
+            int maxX = minX + 64 + random.nextInt(65);
+            int maxY = minY + 40 + random.nextInt(40);
+            boolean clear = expected.stream().noneMatch(q ->
+                    q.getX() >= minX && q.getX() <= maxX && q.getY() >= minY && q.getY() <= maxY);
+            assertEquals(clear, blockers.isRegionClear(minX, minY, maxX, maxY), "query " + i);
+        }
+    }
+
+    @Test
+    void shouldCountRegionsByBlockOnLargeGrids() {
+        GridBlockerSet blockers = new GridBlockerSet(-3_000, -1_000, 3_000, 1_000);
+        assertTrue(GridBlockerSet.cellCount(-3_000, -1_000, 3_000, 1_000) > GridBlockerSet.MAX_TABLE_ENTRIES);
+        Set<Position> expected = new HashSet<>();
+        Random random = new Random(31);
+
+        for (int i = 0; i < 3_000; i++) {
+            Position p = new Position(random.nextInt(6_001) - 3_000, random.nextInt(2_001) - 1_000);
+            if (expected.size() > 60) {
+                Position victim = expected.iterator().next();
+                expected.remove(victim);
+                assertTrue(blockers.unblock(victim.getX(), victim.getY()));
+            }
+            assertEquals(expected.add(p), blockers.block(p.getX(), p.getY()));
+
+            // Rectangles around a blocked cell, so that edge blocks matter
+            Position near = expected.iterator().next();
+            int minX = Math.max(-3_000, near.getX() - random.nextInt(300));
+            int minY = Math.max(-1_000, near.getY() - random.nextInt(300));
+            int maxX = Math.min(3_000, near.getX() + random.nextInt(300) - 150);
+            int maxY = Math.min(1_000, near.getY() + random.nextInt(300) - 150);
+            if (minX > maxX || minY > maxY) {
+                continue;
+            }
+            boolean clear = expected.stream().noneMatch(q ->
+                    q.getX() >= minX && q.getX() <= maxX && q.getY() >= minY && q.getY() <= maxY);
+            assertEquals(clear, blockers.isRegionClear(minX, minY, maxX, maxY), "query " + i);
+        }
+
+        blockers.clear();
+        blockers.block(3_000, 1_000);
+        assertFalse(blockers.isRegionClear(-3_000, -1_000, 3_000, 1_000));
+        assertTrue(blockers.isRegionClear(-3_000, -1_000, 2_999, 1_000));
+        assertTrue(blockers.isRegionClear(-3_000, -1_000, 3_000, 999));
+    }
+
+    private static boolean isRegionClearByCells(GridBlockerSet blockers, int minX, int minY, int maxX, int maxY) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                if (blockers.isBlocked(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void shouldCastRaysPastTheGridEdge() {
+        GridBlockerSet blockers = new GridBlockerSet(-5, -5, 5, 5);
+        blockers.block(1_000_000, 0);
+        blockers.block(0, -2_000_000);
+
+        assertEquals(999_999, blockers.freeSteps(0, 0, Direction.EAST, Integer.MAX_VALUE));
+        assertEquals(1_999_999, blockers.freeSteps(0, 0, Direction.SOUTH, Integer.MAX_VALUE));
+        assertEquals(Integer.MAX_VALUE, blockers.freeSteps(0, 0, Direction.WEST, Integer.MAX_VALUE));
+
+        blockers.block(0, -3);
+        assertEquals(2, blockers.freeSteps(0, 0, Direction.SOUTH, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldRejectEmptyBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new GridBlockerSet(5, 5, -5, -5));
+    }
+
+    @Test
+    void shouldChooseGridWithinCellBudget() {
+        BlockerSets.setGridCellBudget(10_000);
+        assertInstanceOf(GridBlockerSet.class, BlockerSets.forBorder(-10, -10, 10, 10));
+        assertInstanceOf(AxisBlockerSet.class, BlockerSets.forBorder(-100, -100, 100, 100));
+        assertInstanceOf(AxisBlockerSet.class, BlockerSets.forBorder(Integer.MIN_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldFallBackToAxisSetWhenGridExceedsAvailableHeap() {
+        BlockerSets.setGridCellBudget(Long.MAX_VALUE);
+        assertInstanceOf(GridBlockerSet.class, BlockerSets.forBorder(-10, -10, 10, 10));
+        // About 16 GB of bitmap, more than a quarter of any test heap
+        assertInstanceOf(AxisBlockerSet.class, BlockerSets.forBorder(0, 0, (1 << 30) - 1, 119));
+    }
+
+    @Test
+    void shouldCreateDefaultCoordinatesBlockersForBorder() {
+        Coordinates coordinates = new Coordinates(0, 0, "N");
+        coordinates.setBorder(-5, -5, 5, 5);
+        coordinates.getBlockers().add(new Position(0, 1));
+
+        assertInstanceOf(GridBlockerSet.class, coordinates.getBlockers());
+        coordinates.calculateNextMove(Command.MOVE);
+        assertEquals("0 0 N", coordinates.toString());
+    }
+
+    @Test
+    void shouldKeepCallerBlockersOnBorder() {
+        Set<Position> blockers = new HashSet<>();
+        Coordinates coordinates = new Coordinates(0, 0, "N");
+        coordinates.setBlockers(blockers);
+        coordinates.setBorder(-5, -5, 5, 5);
+        assertSame(blockers, coordinates.getBlockers());
+    }
+}
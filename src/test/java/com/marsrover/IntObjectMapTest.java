@@ -0,0 +1,56 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntObjectMap Tests")
+class IntObjectMapTest {
+
+    @Test
+    void shouldPutGetAndRemove() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.put(-7, "a"));
+        assertEquals("a", map.put(-7, "b"));
+        assertNull(map.put(0, "c"));
+        assertEquals("b", map.get(-7));
+        assertNull(map.get(7));
+        assertEquals(2, map.size());
+
+        assertEquals("b", map.remove(-7));
+        assertNull(map.remove(-7));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0));
+    }
+
+    @Test
+    void shouldMatchHashMapUnderRandomOperations() {
+        Random random = new Random(17);
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Integer, Integer> visited = new HashMap<>();
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.valueAt(slot) != null) {
+                visited.put(map.keyAt(slot), map.valueAt(slot));
+            }
+        }
+        assertEquals(expected, visited);
+    }
+}
@@ -0,0 +1,164 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalBlockerSet Tests")
+class IntervalBlockerSetTest extends BlockerSetContractTest {
+
+    @Override
+    protected AbstractBlockerSet newBlockerSet() {
+        return new IntervalBlockerSet();
+    }
+
+    @Test
+    void shouldMatchHashSetWithWalls() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+        Set<Position> expected = new HashSet<>();
+        Random random = new Random(25);
+
+        for (int i = 0; i < 20_000; i++) {
+            int x = random.nextInt(60) - 30;
+            int y = random.nextInt(60) - 30;
+            int operation = random.nextInt(10);
+            if (operation < 4) {
+                Position p = new Position(x, y);
+                assertEquals(expected.remove(p), blockers.remove(p));
+            } else if (operation < 8) {
+                Position p = new Position(x, y);
+                assertEquals(expected.add(p), blockers.add(p));
+            } else if (operation == 8) {
+                int to = x + random.nextInt(10);
+                long added = 0;
+                for (int cx = x; cx <= to; cx++) {
+                    added += expected.add(new Position(cx, y)) ? 1 : 0;
+                }
+                assertEquals(added, blockers.blockRow(y, x, to));
+            } else {
+                int to = y + random.nextInt(10);
+                long added = 0;
+                for (int cy = y; cy <= to; cy++) {
+                    added += expected.add(new Position(x, cy)) ? 1 : 0;
+                }
+                assertEquals(added, blockers.blockColumn(x, y, to));
+            }
+        }
+        assertEquals(expected.size(), blockers.size());
+        assertEquals(expected, new HashSet<>(blockers));
+        for (Position p : expected) {
+            assertTrue(blockers.isBlocked(p.getX(), p.getY()));
+        }
+    }
+
+    @Test
+    void shouldStoreWallsAsSingleIntervals() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+
+        assertEquals(10_000, blockers.blockRow(7, -5_000, 4_999));
+        assertEquals(5_000, blockers.blockRow(7, 0, 9_999));
+        blockers.block(10_000, 7);
+
+        assertEquals(15_001, blockers.size());
+        assertEquals(1, blockers.getIntervalCount());
+        assertTrue(blockers.isBlocked(-5_000, 7));
+        assertFalse(blockers.isBlocked(-5_001, 7));
+
+        assertTrue(blockers.unblock(0, 7));
+        assertEquals(2, blockers.getIntervalCount());
+        assertFalse(blockers.isBlocked(0, 7));
+
+        // Crossing walls split each other once instead of storing a cell per crossed line
+        assertEquals(999_999, blockers.blockColumn(3, -500_000, 499_999));
+        assertEquals(999_999, blockers.blockColumn(5, -500_000, 499_999));
+        assertEquals(6, blockers.getIntervalCount());
+        assertEquals(2, blockers.blockRow(7, 0, 10_001));
+        assertEquals(5, blockers.getIntervalCount());
+        assertEquals(15_002 + 2 * 999_999, blockers.size());
+        assertTrue(blockers.isBlocked(3, 499_999));
+        assertTrue(blockers.isBlocked(5, 7));
+    }
+
+    @Test
+    void shouldStopRaysAtWalls() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+        blockers.blockRow(100, -1_000, 1_000);
+        blockers.blockColumn(50, -20, 20);
+
+        assertEquals(99, blockers.freeSteps(0, 0, Direction.NORTH, Long.MAX_VALUE));
+        assertEquals(49, blockers.freeSteps(0, 0, Direction.EAST, Long.MAX_VALUE));
+        assertEquals(10, blockers.freeSteps(0, 0, Direction.EAST, 10));
+        assertEquals(Long.MAX_VALUE, blockers.freeSteps(0, 0, Direction.WEST, Long.MAX_VALUE));
+        assertEquals(0, blockers.freeSteps(50, 99, Direction.NORTH, 5));
+
+        Coordinates rover = new Coordinates(0, 0, Direction.NORTH);
+        rover.setBlockers(blockers);
+        rover.execute(CommandProgram.compile("M".repeat(500) + "R" + "M".repeat(500)));
+        assertEquals("500 99 E", rover.toString());
+    }
+
+    @Test
+    void shouldMatchCellWalkAcrossWalls() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+        Random random = new Random(3);
+        for (int i = 0; i < 60; i++) {
+            int x = random.nextInt(200) - 100;
+            int y = random.nextInt(200) - 100;
+            if (random.nextBoolean()) {
+                blockers.blockRow(y, x, x + random.nextInt(30));
+            } else {
+                blockers.blockColumn(x, y, y + random.nextInt(30));
+            }
+        }
+        BlockerIndex reference = new SetBlockerIndex(new HashSet<>(blockers));
+
+        for (int i = 0; i < 5_000; i++) {
+            int x = random.nextInt(240) - 120;
+            int y = random.nextInt(240) - 120;
+            Direction direction = Direction.values()[random.nextInt(4)];
+            long limit = random.nextInt(250);
+            assertEquals(reference.freeSteps(x, y, direction, limit), blockers.freeSteps(x, y, direction, limit),
+                    x + " " + y + " " + direction + " " + limit);
+        }
+    }
+
+    @Test
+    void shouldAnswerRegionQueries() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+        blockers.blockRow(10, 0, 100);
+
+        assertFalse(blockers.isRegionClear(50, 5, 60, 15));
+        assertTrue(blockers.isRegionClear(101, 5, 200, 15));
+        assertTrue(blockers.isRegionClear(0, 11, 100, 1_000_000));
+        blockers.blockColumn(-50, 500, 600);
+        assertFalse(blockers.isRegionClear(-1_000, 0, -50, 1_000_000));
+        assertTrue(blockers.isRegionClear(-49, 11, 100, 1_000_000));
+        assertFalse(blockers.isRegionClear(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldHandleExtremeCoordinates() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+        blockers.blockRow(0, Integer.MAX_VALUE - 2, Integer.MAX_VALUE);
+        blockers.blockRow(0, Integer.MIN_VALUE, Integer.MIN_VALUE + 1);
+
+        assertEquals(5, blockers.size());
+        assertTrue(blockers.unblock(Integer.MAX_VALUE, 0));
+        assertTrue(blockers.unblock(Integer.MIN_VALUE, 0));
+        assertEquals(Set.of(new Position(Integer.MAX_VALUE - 2, 0), new Position(Integer.MAX_VALUE - 1, 0),
+                new Position(Integer.MIN_VALUE + 1, 0)), new HashSet<>(blockers));
+    }
+
+    @Test
+    void shouldRejectReversedRanges() {
+        IntervalBlockerSet blockers = new IntervalBlockerSet();
+
+        assertThrows(IllegalArgumentException.class, () -> blockers.blockRow(0, 5, 4));
+        assertThrows(IllegalArgumentException.class, () -> blockers.blockColumn(0, 5, 4));
+    }
+}
@@ -0,0 +1,96 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedMissionReader Tests")
+class MappedMissionReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("missions.txt");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    void shouldReadMissionsAsSlices() throws IOException {
+        try (MappedMissionReader reader = new MappedMissionReader(write("5 5\n1 2 N LMLMLMLMM\n3 3 E mmrmmrmrrm\n"))) {
+            assertEquals(new Position(5, 5), reader.readBorder());
+
+            assertTrue(reader.next());
+            assertEquals(1, reader.getX());
+            assertEquals(2, reader.getY());
+            assertEquals(Direction.NORTH, reader.getDirection());
+            assertEquals("LMLMLMLMM", reader.getCommands().toString());
+
+            assertTrue(reader.next());
+            assertEquals(CommandProgram.compile("MMRMMRMRRM"), reader.getCommands().toProgram());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void shouldRemapWindowForTokensCrossingItsEnd() throws IOException {
+        StringBuilder input = new StringBuilder("50 50");
+        for (int i = 0; i < 40; i++) {
+            input.append(' ').append(i - 20).append(" -").append(i).append(" N LMRMMLMMRRMLLM");
+        }
+        try (MappedMissionReader reader = new MappedMissionReader(write(input.toString()), 24)) {
+            for (int i = 0; i < 40; i++) {
+                assertTrue(reader.next());
+                assertEquals(i - 20, reader.getX());
+                assertEquals(-i, reader.getY());
+                assertEquals("LMRMMLMMRRMLLM", reader.getCommands().toString());
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void shouldRejectCommandsLongerThanWindow() throws IOException {
+        try (MappedMissionReader reader = new MappedMissionReader(write("5 5 0 0 N " + "M".repeat(100)), 32)) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidCommandsWhenDecoded() throws IOException {
+        try (MappedMissionReader reader = new MappedMissionReader(write("5 5 0 0 N MMXM"))) {
+            assertTrue(reader.next());
+            CommandSlice commands = reader.getCommands();
+            assertThrows(IllegalArgumentException.class, commands::validate);
+            assertThrows(IllegalArgumentException.class, commands::toProgram);
+
+            Coordinates rover = new Coordinates(0, 0, "N");
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> rover.execute(commands));
+            assertEquals("Invalid command: X at offset 2", error.getMessage());
+            assertEquals("0 0 N", rover.toString());
+        }
+    }
+
+    @Test
+    void shouldExecuteSliceLikeProgram() throws IOException {
+        try (MappedMissionReader reader = new MappedMissionReader(write("5 5 1 2 N LMLMLMLMMMMMMRMM"))) {
+            assertTrue(reader.next());
+            Coordinates fromSlice = new Coordinates(1, 2, "N");
+            fromSlice.setBorder(-5, -5, 5, 5);
+            fromSlice.execute(reader.getCommands());
+
+            Coordinates fromProgram = new Coordinates(1, 2, "N");
+            fromProgram.setBorder(-5, -5, 5, 5);
+            fromProgram.execute(CommandProgram.compile("LMLMLMLMMMMMMRMM"));
+
+            assertEquals(fromProgram.toString(), fromSlice.toString());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MissionConverter Tests")
+class MissionConverterTest {
+
+    private static byte[] toBinary(String text) throws Exception {
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        MissionConverter.textToBinary(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)), binary);
+        return binary.toByteArray();
+    }
+
+    private static String toText(byte[] binary) throws Exception {
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        MissionConverter.binaryToText(new ByteArrayInputStream(binary), text);
+        return text.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void shouldRoundTripClassicMissions() throws Exception {
+        String text = "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n-2147483648 2147483647 W M\n0 0 S\n";
+
+        assertEquals(text, toText(toBinary(text)));
+    }
+
+    @Test
+    void shouldReadPackedProgramsFromBinary() throws Exception {
+        byte[] binary = toBinary("5 5 1 2 N lmlmlmlmm -1 0 W");
+        BinaryMissionReader reader = new BinaryMissionReader(new ByteArrayInputStream(binary));
+
+        assertEquals(new Position(5, 5), reader.getBorder());
+        assertTrue(reader.next());
+        assertEquals(1, reader.getX());
+        assertEquals(2, reader.getY());
+        assertEquals(Direction.NORTH, reader.getDirection());
+        assertEquals("LMLMLMLMM", reader.getCommands().toString());
+        assertTrue(reader.next());
+        assertEquals(-1, reader.getX());
+        assertEquals(0, reader.getCommands().length());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void shouldBeMuchSmallerThanText() throws Exception {
+        Random random = new Random(19);
+        StringBuilder text = new StringBuilder("100 100\n");
+        for (int i = 0; i < 100; i++) {
+            text.append(random.nextInt(201) - 100).append(' ').append(random.nextInt(201) - 100).append(" N ");
+            for (int j = 0; j < 1000; j++) {
+                text.append("LRMM".charAt(random.nextInt(4)));
+            }
+            text.append('\n');
+        }
+
+        byte[] binary = toBinary(text.toString());
+
+        assertTrue(binary.length * 3.9 < text.length(), binary.length + " vs " + text.length());
+        assertEquals(text.toString(), toText(binary));
+    }
+
+    @Test
+    void shouldRejectMalformedBinary() throws Exception {
+        byte[] binary = toBinary("5 5 1 2 N LMLMLMLMM");
+
+        assertThrows(IllegalArgumentException.class, () -> toText("MRB2".getBytes(StandardCharsets.US_ASCII)));
+        assertThrows(IllegalArgumentException.class, () -> toText(Arrays.copyOf(binary, binary.length - 1)));
+        byte[] badDirection = binary.clone();
+        badDirection[8] = 4;
+        assertThrows(IllegalArgumentException.class, () -> toText(badDirection));
+    }
+
+    @Test
+    void shouldRejectEmptyProgramBeforeLastMissionInText() throws Exception {
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        try (BinaryMissionWriter writer = new BinaryMissionWriter(binary, 5, 5)) {
+            writer.write(0, 0, Direction.NORTH, CommandProgram.EMPTY);
+            writer.write(1, 1, Direction.NORTH, CommandProgram.compile("M"));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> toText(binary.toByteArray()));
+    }
+}
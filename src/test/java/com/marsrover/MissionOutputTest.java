@@ -0,0 +1,90 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MissionOutput Tests")
+class MissionOutputTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    private void runRover(MissionOutput output, Coordinates rover, String commands) {
+        output.initialPosition(rover);
+        for (char c : commands.toCharArray()) {
+            Command command = Command.fromChar(c);
+            rover.calculateNextMove(command);
+            output.step(c, rover);
+        }
+        output.finalPosition(rover, commands.length());
+    }
+
+    @Test
+    void shouldWriteFullTrace() {
+        MissionOutput output = new MissionOutput(bytes, MissionOutput.Verbosity.TRACE);
+        runRover(output, new Coordinates(-1, 2, "N"), "LM");
+        output.summary();
+        output.flush();
+
+        assertEquals(String.join("\n",
+                "Initial position: -1 2 N",
+                "After L: -1 2 W",
+                "After M: -2 2 W",
+                "Final position: -2 2 W", ""), bytes.toString());
+    }
+
+    @Test
+    void shouldEchoCommandsAsWritten() {
+        MissionOutput output = new MissionOutput(bytes, MissionOutput.Verbosity.TRACE);
+        runRover(output, new Coordinates(0, 0, "N"), "mR");
+        output.flush();
+
+        assertEquals(String.join("\n",
+                "Initial position: 0 0 N",
+                "After m: 0 1 N",
+                "After R: 0 1 E",
+                "Final position: 0 1 E", ""), bytes.toString());
+    }
+
+    @Test
+    void shouldWriteFinalPositionsOnly() {
+        MissionOutput output = new MissionOutput(bytes, MissionOutput.Verbosity.FINAL);
+        assertFalse(output.tracesSteps());
+        runRover(output, new Coordinates(Integer.MIN_VALUE, Integer.MAX_VALUE, "S"), "R");
+        output.flush();
+
+        assertEquals("Final position: " + Integer.MIN_VALUE + " " + Integer.MAX_VALUE + " W\n", bytes.toString());
+    }
+
+    @Test
+    void shouldWriteSummaryOnly() {
+        MissionOutput output = new MissionOutput(bytes, MissionOutput.Verbosity.SUMMARY);
+        runRover(output, new Coordinates(0, 0, "N"), "MMR");
+        runRover(output, new Coordinates(0, 0, "N"), "L");
+        output.summary();
+        output.flush();
+
+        assertEquals("Rovers: 2\nCommands: 4\n", bytes.toString());
+    }
+
+    @Test
+    void shouldFlushLargeOutputInBlocks() {
+        MissionOutput output = new MissionOutput(bytes, MissionOutput.Verbosity.FINAL);
+        Coordinates rover = new Coordinates(123456, -654321, "E");
+        for (int i = 0; i < 10_000; i++) {
+            output.finalPosition(rover, 0);
+        }
+        output.flush();
+
+        assertEquals("Final position: 123456 -654321 E\n".repeat(10_000), bytes.toString());
+    }
+
+    @Test
+    void shouldParseVerbosityIgnoringCase() {
+        assertEquals(MissionOutput.Verbosity.SUMMARY, MissionOutput.Verbosity.fromString("Summary"));
+        assertThrows(IllegalArgumentException.class, () -> MissionOutput.Verbosity.fromString("loud"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MissionReader Tests")
+class MissionReaderTest {
+
+    private static MissionReader reader(String input) {
+        return new MissionReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void shouldReadBorderAndMissions() throws IOException {
+        MissionReader reader = reader("5 5\n1 2 N LMLMLMLMM\n3 3 e mmrmmrmrrm\n");
+        assertEquals(new Position(5, 5), reader.readBorder());
+
+        Mission first = reader.next();
+        assertEquals("1 2 N LMLMLMLMM", first.toString());
+        Mission second = reader.next();
+        assertEquals(3, second.getX());
+        assertEquals(Direction.EAST, second.getDirection());
+        assertEquals(CommandProgram.compile("MMRMMRMRRM"), second.getProgram());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReadNegativeCoordinatesAndMissingCommands() throws IOException {
+        MissionReader reader = reader("  10\t10 -3 +4 W");
+        Mission mission = reader.next();
+        assertEquals("-3 4 W ", mission.toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldRejectMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> reader("5 5 a b N M").next());
+        assertThrows(IllegalArgumentException.class, () -> reader("5 5 1").next());
+        assertThrows(IllegalArgumentException.class, () -> reader("5 5 1 2 NORTH M").next());
+        assertThrows(IllegalArgumentException.class, () -> reader("5 5 1 2 N LMX").next());
+        assertThrows(IllegalArgumentException.class, () -> reader("5 5 99999999999 2 N M").next());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> reader("5 5 1 2 X M").next());
+        assertTrue(exception.getMessage().contains("Invalid direction 'X'"));
+    }
+
+    @Test
+    void shouldStreamCommandsLongerThanTheBuffer() throws IOException {
+        int length = 1_000_000;
+        InputStream in = new InputStream() {
+            private final byte[] header = "100 100 0 0 N ".getBytes(StandardCharsets.US_ASCII);
+            private int index;
+
+            @Override
+            public int read() {
+                int i = index++;
+                if (i < header.length) {
+                    return header[i];
+                }
+                return i < header.length + length ? 'M' : -1;
+            }
+        };
+        Mission mission = new MissionReader(in).next();
+        assertEquals(length, mission.getProgram().length());
+
+        Coordinates rover = new Coordinates(0, 0, "N");
+        rover.setBorder(-100, -100, 100, 100);
+        rover.execute(mission.getProgram());
+        assertEquals("0 100 N", rover.toString());
+    }
+}
@@ -0,0 +1,68 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PackedBlockerSet Tests")
+class PackedBlockerSetTest extends BlockerSetContractTest {
+
+    @Override
+    protected AbstractBlockerSet newBlockerSet() {
+        return new PackedBlockerSet();
+    }
+
+    @Test
+    void shouldBeEmptyByDefault() {
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        assertTrue(blockers.isEmpty());
+        assertFalse(blockers.isBlocked(0, 0));
+    }
+
+    @Test
+    void shouldBlockAndUnblockCells() {
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        assertTrue(blockers.block(1, 2));
+        assertFalse(blockers.block(1, 2));
+        assertTrue(blockers.isBlocked(1, 2));
+        assertFalse(blockers.isBlocked(2, 1));
+        assertEquals(1, blockers.count());
+
+        assertTrue(blockers.unblock(1, 2));
+        assertFalse(blockers.unblock(1, 2));
+        assertFalse(blockers.isBlocked(1, 2));
+        assertEquals(0, blockers.count());
+    }
+
+    @Test
+    void shouldHandleExtremeCoordinates() {
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        blockers.add(new Position(Integer.MIN_VALUE, 0));
+        blockers.add(new Position(Integer.MAX_VALUE, Integer.MIN_VALUE));
+        blockers.add(new Position(-1, -1));
+
+        assertTrue(blockers.contains(new Position(Integer.MIN_VALUE, 0)));
+        assertTrue(blockers.contains(new Position(Integer.MAX_VALUE, Integer.MIN_VALUE)));
+        assertTrue(blockers.contains(new Position(-1, -1)));
+        assertFalse(blockers.contains(new Position(0, Integer.MIN_VALUE)));
+        assertEquals(3, blockers.size());
+        assertEquals(Set.of(new Position(Integer.MIN_VALUE, 0),
+                new Position(Integer.MAX_VALUE, Integer.MIN_VALUE),
+                new Position(-1, -1)), new HashSet<>(blockers));
+    }
+
+    @Test
+    void shouldBlockRoverWhenUsedAsCoordinatesBlockers() {
+        PackedBlockerSet blockers = new PackedBlockerSet();
+        Coordinates coordinates = new Coordinates(0, 0, "N");
+        coordinates.setBlockers(blockers);
+        blockers.add(new Position(0, 1));
+
+        coordinates.calculateNextMove(Command.MOVE);
+        assertEquals("0 0 N", coordinates.toString());
+    }
+}
@@ -0,0 +1,72 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PackedCommandProgram Tests")
+class PackedCommandProgramTest {
+
+    @Test
+    void shouldPackFourCommandsPerByte() {
+        PackedCommandProgram packed = PackedCommandProgram.pack(CommandProgram.compile("LRMMM"));
+
+        assertEquals(5, packed.length());
+        assertArrayEquals(new byte[]{(byte) 0b10_10_01_00, 0b10}, packed.toPackedBytes());
+        assertEquals("LRMMM", packed.toString());
+        assertEquals(CommandProgram.compile("LRMMM"), packed.toProgram());
+        assertEquals(Command.RIGHT, packed.commandAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> packed.commandAt(5));
+    }
+
+    @Test
+    void shouldRejectInvalidPackedBytes() {
+        assertThrows(IllegalArgumentException.class, () -> PackedCommandProgram.wrap(new byte[]{(byte) 0b1100}, 2));
+        assertThrows(IllegalArgumentException.class, () -> PackedCommandProgram.wrap(new byte[]{0b01_00_00}, 2));
+        assertThrows(IllegalArgumentException.class, () -> PackedCommandProgram.wrap(new byte[2], 4));
+        assertEquals("RL", PackedCommandProgram.wrap(new byte[]{0b00_01}, 2).toString());
+    }
+
+    @Test
+    void shouldFindRunEnds() {
+        PackedCommandProgram packed = PackedCommandProgram.pack(CommandProgram.compile("LMMMMMMMMMMMMRRM"));
+
+        assertEquals(1, packed.runEnd(0));
+        assertEquals(13, packed.runEnd(1));
+        assertEquals(13, packed.runEnd(6));
+        assertEquals(15, packed.runEnd(13));
+        assertEquals(16, packed.runEnd(15));
+    }
+
+    @Test
+    void shouldExecuteLikeCommandProgram() {
+        Random random = new Random(19);
+        for (int trial = 0; trial < 200; trial++) {
+            StringBuilder commands = new StringBuilder();
+            for (int i = random.nextInt(200); i > 0; i--) {
+                commands.append(random.nextInt(3) == 0 ? "LRM".charAt(random.nextInt(3)) : 'M');
+            }
+            CommandProgram program = CommandProgram.compile(commands);
+            PackedCommandProgram packed = PackedCommandProgram.pack(program);
+            PackedBlockerSet blockers = new PackedBlockerSet();
+            for (int i = 0; i < 30; i++) {
+                blockers.block(random.nextInt(21) - 10, random.nextInt(21) - 10);
+            }
+
+            Coordinates expected = new Coordinates(0, 0, Direction.NORTH);
+            expected.setBorder(-10, -10, 10, 10);
+            expected.setBlockers(blockers);
+            expected.execute(program);
+            Coordinates actual = new Coordinates(0, 0, Direction.NORTH);
+            actual.setBorder(-10, -10, 10, 10);
+            actual.setBlockers(blockers);
+            actual.execute((CommandSequence) packed);
+
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(program.toString(), packed.toString());
+        }
+    }
+}
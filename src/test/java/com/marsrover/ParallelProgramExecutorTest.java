@@ -0,0 +1,85 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelProgramExecutor Tests")
+class ParallelProgramExecutorTest {
+
+    @Test
+    void shouldMatchSerialExecution() {
+        Random random = new Random(22);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 40; trial++) {
+                int border = 5 + random.nextInt(60);
+                GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+                for (int i = 0; i < random.nextInt(border * 2 + 1); i++) {
+                    obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+                }
+                StringBuilder commands = new StringBuilder();
+                for (int i = 0, n = random.nextInt(5000); i < n; i++) {
+                    commands.append("LRMMMM".charAt(random.nextInt(6)));
+                }
+                CommandProgram program = CommandProgram.compile(commands);
+                int startX = random.nextInt(2 * border + 1) - border;
+                int startY = random.nextInt(2 * border + 1) - border;
+                Direction direction = Direction.values()[random.nextInt(4)];
+
+                Coordinates expected = rover(startX, startY, direction, border, obstacles);
+                expected.execute(program);
+                Coordinates actual = rover(startX, startY, direction, border, obstacles);
+                new ParallelProgramExecutor(pool, 1 + random.nextInt(100)).execute(actual, program);
+
+                assertEquals(expected.toString(), actual.toString(), "trial " + trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldApplyClearChunksWithoutReexecution() {
+        // Each chunk of four commands draws a small square and returns to the start
+        CommandProgram program = CommandProgram.compile("MRMRMRMR".repeat(1000));
+        Coordinates rover = rover(0, 0, Direction.NORTH, 10, new PackedBlockerSet());
+        ParallelProgramExecutor executor = new ParallelProgramExecutor(ForkJoinPool.commonPool(), 4);
+
+        executor.execute(rover, program);
+
+        assertEquals("0 0 N", rover.toString());
+        assertEquals(0, executor.getLastReexecutedChunks());
+    }
+
+    @Test
+    void shouldReexecuteOnlyChunksThatTouchTheBorder() {
+        // Runs north into the border after 5 moves; the later turns are clear
+        CommandProgram program = CommandProgram.compile("MMMMMMMMMMRRRRRRRR");
+        Coordinates rover = rover(0, 0, Direction.NORTH, 5, new PackedBlockerSet());
+        ParallelProgramExecutor executor = new ParallelProgramExecutor(ForkJoinPool.commonPool(), 3);
+
+        executor.execute(rover, program);
+
+        assertEquals("0 5 N", rover.toString());
+        // MMM fits, the next two MMM and MRR would cross the border, the turns are clear again
+        assertEquals(3, executor.getLastReexecutedChunks());
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkLength() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelProgramExecutor(ForkJoinPool.commonPool(), 0));
+    }
+
+    private static Coordinates rover(int x, int y, Direction direction, int border, Set<Position> obstacles) {
+        Coordinates rover = new Coordinates(x, y, direction);
+        rover.setBorder(-border, -border, border, border);
+        rover.setBlockers(obstacles);
+        return rover;
+    }
+}
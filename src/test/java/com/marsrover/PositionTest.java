@@ -155,4 +155,14 @@ class PositionTest {
 
         assertNotSame(original, moved);
     }
+
+    @Test
+    void shouldKeepHashCodeCompatibleWithObjectsHash() {
+        int[] values = {0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int x : values) {
+            for (int y : values) {
+                assertEquals(java.util.Objects.hash(x, y), new Position(x, y).hashCode());
+            }
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrefixSharingExecutor Tests")
+class PrefixSharingExecutorTest {
+
+    @Test
+    void shouldMatchIndependentExecution() {
+        Random random = new Random(21);
+        for (int trial = 0; trial < 30; trial++) {
+            int border = 3 + random.nextInt(20);
+            GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+            for (int i = 0; i < border * 2; i++) {
+                obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+            }
+            List<String> prefixes = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                prefixes.add(randomCommands(random, random.nextInt(30)));
+            }
+            List<Mission> missions = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int x = random.nextInt(3) - 1;
+                int y = random.nextInt(3) - 1;
+                Direction direction = Direction.values()[random.nextInt(4)];
+                String commands = prefixes.get(random.nextInt(prefixes.size()));
+                commands = commands.substring(0, random.nextInt(commands.length() + 1))
+                        + randomCommands(random, random.nextInt(4) == 0 ? 0 : random.nextInt(20));
+                missions.add(new Mission(x, y, direction, CommandProgram.compile(commands)));
+            }
+
+            int before = obstacles.size();
+            List<Coordinates> actual = new PrefixSharingExecutor()
+                    .run(missions, -border, -border, border, border, obstacles);
+
+            assertEquals(before, obstacles.size());
+            assertEquals(missions.size(), actual.size());
+            for (int i = 0; i < missions.size(); i++) {
+                Mission mission = missions.get(i);
+                Coordinates expected = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+                expected.setBorder(-border, -border, border, border);
+                expected.setBlockers(obstacles);
+                expected.execute(mission.getProgram());
+                assertEquals(expected.toString(), actual.get(i).toString(), "rover " + i);
+            }
+        }
+    }
+
+    @Test
+    void shouldSimulateSharedPrefixesOnce() {
+        List<Mission> missions = List.of(
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMRMMM")),
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMRMML")),
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MM")),
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMRMMM")),
+                new Mission(1, 0, Direction.NORTH, CommandProgram.compile("MM")));
+        PrefixSharingExecutor executor = new PrefixSharingExecutor();
+
+        List<Coordinates> rovers = executor.run(missions, -10, -10, 10, 10, new PackedBlockerSet());
+
+        assertEquals("3 2 E", rovers.get(0).toString());
+        assertEquals("2 2 N", rovers.get(1).toString());
+        assertEquals("0 2 N", rovers.get(2).toString());
+        assertEquals("3 2 E", rovers.get(3).toString());
+        assertEquals("1 2 N", rovers.get(4).toString());
+        // MM, then RMM, then M and L, for the first start pose; MM for the second
+        assertEquals(2 + 3 + 1 + 1 + 2, executor.getLastSimulatedCommands());
+    }
+
+    @Test
+    void shouldReturnEmptyResultForNoMissions() {
+        PrefixSharingExecutor executor = new PrefixSharingExecutor();
+
+        assertTrue(executor.run(List.of(), 0, 0, 5, 5, new PackedBlockerSet()).isEmpty());
+        assertEquals(0, executor.getLastSimulatedCommands());
+    }
+
+    private static String randomCommands(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append("LRMMM".charAt(random.nextInt(5)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProgramTransform Tests")
+class ProgramTransformTest {
+
+    @Test
+    void shouldComputeNetTransformFacingNorth() {
+        ProgramTransform transform = ProgramTransform.of(CommandProgram.compile("MMRMMML"));
+        assertEquals(0, transform.getRotation());
+        assertEquals(3, transform.getDeltaX());
+        assertEquals(2, transform.getDeltaY());
+    }
+
+    @Test
+    void shouldComposeLikeConcatenatedPrograms() {
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) {
+            String a = randomCommands(random, 15);
+            String b = randomCommands(random, 15);
+            assertEquals(ProgramTransform.of(CommandProgram.compile(a + b)).toString(),
+                    ProgramTransform.of(CommandProgram.compile(a)).then(ProgramTransform.of(CommandProgram.compile(b))).toString());
+        }
+    }
+
+    @Test
+    void shouldRaiseToPowerLikeRepeatedConcatenation() {
+        String patrol = "MMLMRMMRRM";
+        ProgramTransform unit = ProgramTransform.of(CommandProgram.compile(patrol));
+        assertEquals(ProgramTransform.of(CommandProgram.compile(patrol.repeat(13))).toString(), unit.power(13).toString());
+        assertEquals(ProgramTransform.IDENTITY.toString(), unit.power(0).toString());
+    }
+
+    @Test
+    void shouldRepeatProgramInFreeSpaceWithoutSimulatingEachStep() {
+        Coordinates rover = new Coordinates(0, 0, "E");
+        rover.execute(CommandProgram.compile("MMRML"), 1_000_000_000_000L);
+        // Facing east, each repetition moves two east and one south; coordinates wrap like single steps
+        assertEquals(Direction.EAST, rover.getDirection());
+        assertEquals((int) 2_000_000_000_000L, rover.getX());
+        assertEquals((int) -1_000_000_000_000L, rover.getY());
+    }
+
+    @Test
+    void shouldMatchStepwiseRepetitionAmongBlockers() {
+        Random random = new Random(17);
+        for (int trial = 0; trial < 200; trial++) {
+            CommandProgram program = CommandProgram.compile(randomCommands(random, 1 + random.nextInt(12)));
+            long repetitions = random.nextInt(300);
+            AbstractBlockerSet blockers = trial % 2 == 0 ? new AxisBlockerSet() : new GridBlockerSet(-30, -30, 30, 30);
+            for (int i = 0; i < random.nextInt(30); i++) {
+                blockers.block(random.nextInt(61) - 30, random.nextInt(61) - 30);
+            }
+            int startX = random.nextInt(41) - 20;
+            int startY = random.nextInt(41) - 20;
+            String direction = "NESW".substring(trial % 4, trial % 4 + 1);
+
+            Coordinates expected = new Coordinates(startX, startY, direction);
+            expected.setBorder(-30, -30, 30, 30);
+            expected.setBlockers(blockers);
+            for (long r = 0; r < repetitions; r++) {
+                expected.execute(program);
+            }
+
+            Coordinates actual = new Coordinates(startX, startY, direction);
+            actual.setBorder(-30, -30, 30, 30);
+            actual.setBlockers(blockers);
+            actual.execute(program, repetitions);
+
+            assertEquals(expected.toString(), actual.toString(), program + " x" + repetitions);
+        }
+    }
+
+    @Test
+    void shouldSkipWholeCyclesOfStuckOrOscillatingRovers() {
+        Random random = new Random(23);
+        for (int trial = 0; trial < 50; trial++) {
+            CommandProgram program = CommandProgram.compile(randomCommands(random, 1 + random.nextInt(10)));
+            GridBlockerSet blockers = new GridBlockerSet(-4, -4, 4, 4);
+            for (int i = 0; i < 12; i++) {
+                blockers.block(random.nextInt(9) - 4, random.nextInt(9) - 4);
+            }
+            blockers.unblock(0, 0);
+
+            // At most 81 cells x 4 headings, so poses repeat within 324 repetitions
+            Coordinates naive = new Coordinates(0, 0, "N");
+            naive.setBorder(-4, -4, 4, 4);
+            naive.setBlockers(blockers);
+            Map<String, Integer> seen = new HashMap<>();
+            List<String> poses = new ArrayList<>();
+            while (!seen.containsKey(naive.toString())) {
+                seen.put(naive.toString(), poses.size());
+                poses.add(naive.toString());
+                naive.execute(program);
+            }
+            int cycleStart = seen.get(naive.toString());
+            int period = poses.size() - cycleStart;
+            long repetitions = 1_000_000_000_000_000L + trial;
+            String expected = poses.get((int) (cycleStart + (repetitions - cycleStart) % period));
+
+            Coordinates actual = new Coordinates(0, 0, "N");
+            actual.setBorder(-4, -4, 4, 4);
+            actual.setBlockers(blockers);
+            actual.execute(program, repetitions);
+
+            assertEquals(expected, actual.toString(), program.toString());
+        }
+    }
+
+    private static String randomCommands(Random random, int length) {
+        StringBuilder commands = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            commands.append("LRMM".charAt(random.nextInt(4)));
+        }
+        return commands.toString();
+    }
+}
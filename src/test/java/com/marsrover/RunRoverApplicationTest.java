@@ -4,10 +4,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -222,6 +225,16 @@ class RunRoverApplicationTest {
         assertTrue(output.contains("After M:"));
     }
 
+    @Test
+    void shouldEchoLowerCaseCommandsAsTyped() {
+        RunRoverApplication.main(new String[]{"5", "5", "1", "2", "N", "lMm"});
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("After l: 1 2 W"));
+        assertTrue(output.contains("After M: 0 2 W"));
+        assertTrue(output.contains("After m: -1 2 W"));
+    }
+
     @Test
     void shouldHandleRoverReachingBorderCorrectly() {
         String[] args = {"2", "2", "0", "0", "N", "MMM"};
@@ -327,4 +340,141 @@ class RunRoverApplicationTest {
         assertTrue(output.contains("Initial position: 50 50 N"));
         assertTrue(output.contains("Final position: 50 51 N"));
     }
+
+    @Test
+    void shouldProcessMissionsFromInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n");
+
+        RunRoverApplication.main(new String[]{"--input", missions.toString()});
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("Final position: 1 3 N"));
+        assertTrue(output.contains("Final position: 5 1 E"));
+        assertEquals("", errorStream.toString());
+    }
+
+    @Test
+    void shouldReportMissingInputFile(@TempDir Path dir) {
+        RunRoverApplication.main(new String[]{"--input", dir.resolve("missing.txt").toString()});
+
+        assertTrue(errorStream.toString().contains("Error reading missions"));
+    }
+
+    @Test
+    void shouldReportMalformedInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5 1 2 X M");
+
+        RunRoverApplication.main(new String[]{"--input", missions.toString()});
+
+        assertTrue(errorStream.toString().contains("Invalid direction 'X'"));
+    }
+
+    @Test
+    void shouldProcessMissionsFromMappedInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n");
+
+        RunRoverApplication.main(new String[]{"--input-mapped", missions.toString()});
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("Final position: 1 3 N"));
+        assertTrue(output.contains("Final position: 5 1 E"));
+        assertEquals("", errorStream.toString());
+    }
+
+    @Test
+    void shouldEchoMappedCommandsAsWritten(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n1 2 N rm\n");
+
+        RunRoverApplication.main(new String[]{"--input-mapped", missions.toString()});
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("After r: 1 2 E"));
+        assertTrue(output.contains("After m: 2 2 E"));
+    }
+
+    @Test
+    void shouldPrintOnlyFinalPositionsAtFinalVerbosity() {
+        RunRoverApplication.main(new String[]{"--verbosity=final", "5", "5", "1", "2", "N", "LMLMLMLMM", "3", "3", "E", "MMRMMRMRRM"});
+
+        assertEquals("Final position: 1 3 N\nFinal position: 5 1 E\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldPrintSummaryAtSummaryVerbosity() {
+        RunRoverApplication.main(new String[]{"--verbosity=summary", "5", "5", "1", "2", "N", "LMLMLMLMM", "3", "3", "E", "MMRMMRMRRM"});
+
+        assertEquals("Rovers: 2\nCommands: 19\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldWriteOutputToFile(@TempDir Path dir) throws Exception {
+        Path results = dir.resolve("results.txt");
+
+        RunRoverApplication.main(new String[]{"--verbosity=final", "--output=" + results, "5", "5", "1", "2", "N", "LMLMLMLMM"});
+
+        assertEquals("Final position: 1 3 N\n", Files.readString(results));
+        assertEquals("", outputStream.toString());
+    }
+
+    @Test
+    void shouldRejectUnknownVerbosity() {
+        RunRoverApplication.main(new String[]{"--verbosity=loud", "5", "5", "1", "2", "N", "M"});
+
+        assertTrue(errorStream.toString().contains("Invalid verbosity"));
+    }
+
+    @Test
+    void shouldRunFleetInParallelFromInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n1 2 N RMMMM\n");
+
+        RunRoverApplication.main(new String[]{"--parallel", "--verbosity=final", "--input", missions.toString()});
+
+        assertEquals("Final position: 1 3 N\nFinal position: 5 1 E\nFinal position: 5 2 E\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldRunFleetSpeculativelyFromInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n1 2 N RMMMM\n");
+
+        RunRoverApplication.main(new String[]{"--parallel=speculative", "--verbosity=final", "--input", missions.toString()});
+
+        assertEquals("Final position: 1 3 N\nFinal position: 5 1 E\nFinal position: 5 2 E\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldRunFleetSimultaneouslyFromInputFile(@TempDir Path dir) throws Exception {
+        Path missions = dir.resolve("missions.txt");
+        Files.writeString(missions, "5 5\n0 0 N MM\n0 1 N MM\n");
+
+        RunRoverApplication.main(new String[]{"--simultaneous", "--verbosity=final", "--input", missions.toString()});
+
+        assertEquals("Final position: 0 1 N\nFinal position: 0 3 N\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldConvertAndRunBinaryMissions(@TempDir Path dir) throws Exception {
+        Path text = dir.resolve("missions.txt");
+        Path binary = dir.resolve("missions.mrb");
+        Files.writeString(text, "5 5\n1 2 N LMLMLMLMM\n3 3 E MMRMMRMRRM\n");
+
+        RunRoverApplication.main(new String[]{"--convert-to-binary", text.toString(), binary.toString()});
+        assertTrue(outputStream.toString().contains("Converted 2 missions"));
+        outputStream.reset();
+
+        RunRoverApplication.main(new String[]{"--verbosity=final", "--input-binary", binary.toString()});
+        assertEquals("Final position: 1 3 N\nFinal position: 5 1 E\n", outputStream.toString());
+    }
+
+    @Test
+    void shouldRejectParallelTrace() {
+        RunRoverApplication.main(new String[]{"--parallel", "--input", "missions.txt"});
+
+        assertTrue(errorStream.toString().contains("--parallel requires"));
+    }
 }
@@ -0,0 +1,77 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpeculativeFleetExecutor Tests")
+class SpeculativeFleetExecutorTest {
+
+    @Test
+    void shouldMatchSequentialExecution() {
+        Random random = new Random(13);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 20; trial++) {
+                int border = 5 + random.nextInt(100);
+                List<Mission> missions = FleetExecutorTest.randomMissions(random, 300, border + 2, 40);
+                GridBlockerSet obstacles = new GridBlockerSet(-border, -border, border, border);
+                for (int i = 0; i < border * 2; i++) {
+                    obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+                }
+
+                List<String> expected = FleetExecutorTest.runSequentially(missions, border, obstacles);
+                int before = obstacles.size();
+                List<Coordinates> actual = new SpeculativeFleetExecutor(pool)
+                        .run(missions, -border, -border, border, border, obstacles);
+
+                assertEquals(before, obstacles.size());
+                for (int i = 0; i < missions.size(); i++) {
+                    assertEquals(expected.get(i), actual.get(i).toString(), "rover " + i);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldOnlyReexecuteConflictingRovers() {
+        List<Mission> missions = List.of(
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MM")),
+                new Mission(0, 5, Direction.SOUTH, CommandProgram.compile("MMMMM")),
+                new Mission(3, 0, Direction.EAST, CommandProgram.compile("M")));
+        SpeculativeFleetExecutor executor = new SpeculativeFleetExecutor();
+
+        List<Coordinates> rovers = executor.run(missions, -10, -10, 10, 10, new PackedBlockerSet());
+
+        assertEquals("0 2 N", rovers.get(0).toString());
+        assertEquals("0 3 S", rovers.get(1).toString());
+        assertEquals("4 0 E", rovers.get(2).toString());
+        assertEquals(1, executor.getLastReexecutions());
+    }
+
+    @Test
+    void shouldRecordStraightPathSegments() {
+        Coordinates rover = new Coordinates(0, 0, Direction.NORTH);
+        rover.setBorder(-5, -5, 5, 5);
+
+        int[] path = SpeculativeFleetExecutor.executeRecordingPath(rover, CommandProgram.compile("MMRMMMMMMMLL"));
+
+        assertArrayEquals(new int[]{0, 0, Direction.NORTH.ordinal(), 2, 0, 2, Direction.EAST.ordinal(), 5}, path);
+        assertEquals("5 2 W", rover.toString());
+    }
+
+    @Test
+    void shouldReexecuteWhenCoordinatesWrap() {
+        Coordinates rover = new Coordinates(Integer.MAX_VALUE, 0, Direction.EAST);
+
+        assertNull(SpeculativeFleetExecutor.executeRecordingPath(rover, CommandProgram.compile("MM")));
+        assertEquals((Integer.MIN_VALUE + 1) + " 0 E", rover.toString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TickFleetEngine Tests")
+class TickFleetEngineTest {
+
+    private static List<String> run(int border, BlockerIndex obstacles, List<Mission> missions, ForkJoinPool pool) {
+        List<String> poses = new ArrayList<>();
+        for (Coordinates rover : new TickFleetEngine(-border, -border, border, border, obstacles, pool).run(missions)) {
+            poses.add(rover.toString());
+        }
+        return poses;
+    }
+
+    /**
+     * Straightforward single-threaded version of the tick rules.
+     */
+    private static List<String> runNaively(int border, BlockerIndex obstacles, List<Mission> missions) {
+        int n = missions.size();
+        Coordinates[] rovers = new Coordinates[n];
+        int ticks = 0;
+        for (int i = 0; i < n; i++) {
+            Mission mission = missions.get(i);
+            rovers[i] = new Coordinates(mission.getX(), mission.getY(), mission.getDirection());
+            ticks = Math.max(ticks, mission.getProgram().length());
+        }
+        for (int t = 0; t < ticks; t++) {
+            Set<Position> occupied = new HashSet<>();
+            for (Coordinates rover : rovers) {
+                occupied.add(rover.getPosition());
+            }
+            Set<Position> claimed = new HashSet<>();
+            for (int i = 0; i < n; i++) {
+                CommandProgram program = missions.get(i).getProgram();
+                if (t >= program.length()) {
+                    continue;
+                }
+                Command command = program.commandAt(t);
+                if (command != Command.MOVE) {
+                    rovers[i].calculateNextMove(command);
+                    continue;
+                }
+                Direction direction = rovers[i].getDirection();
+                Position next = new Position(rovers[i].getX() + direction.getDeltaX(), rovers[i].getY() + direction.getDeltaY());
+                if (Math.abs(next.getX()) <= border && Math.abs(next.getY()) <= border
+                        && !obstacles.isBlocked(next.getX(), next.getY())
+                        && !occupied.contains(next) && claimed.add(next)) {
+                    rovers[i].setPosition(next);
+                }
+            }
+        }
+        List<String> poses = new ArrayList<>();
+        for (Coordinates rover : rovers) {
+            poses.add(rover.toString());
+        }
+        return poses;
+    }
+
+    @Test
+    void shouldLetLowerIdWinContestedCell() {
+        List<Mission> missions = List.of(
+                new Mission(2, 0, Direction.WEST, CommandProgram.compile("M")),
+                new Mission(0, 0, Direction.EAST, CommandProgram.compile("M")),
+                new Mission(1, 1, Direction.SOUTH, CommandProgram.compile("M")));
+
+        assertEquals(List.of("1 0 W", "0 0 E", "1 1 S"), run(5, BlockerSets.NONE, missions, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void shouldBlockCellsOccupiedAtTickStart() {
+        List<Mission> missions = List.of(
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MM")),
+                new Mission(0, 1, Direction.NORTH, CommandProgram.compile("MM")),
+                new Mission(3, 0, Direction.EAST, CommandProgram.compile("M")),
+                new Mission(4, 0, Direction.WEST, CommandProgram.compile("M")));
+
+        assertEquals(List.of("0 1 N", "0 3 N", "3 0 E", "4 0 W"), run(5, BlockerSets.NONE, missions, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void shouldRespectBordersAndObstacles() {
+        PackedBlockerSet obstacles = new PackedBlockerSet();
+        obstacles.block(0, 2);
+        List<Mission> missions = List.of(
+                new Mission(0, 0, Direction.NORTH, CommandProgram.compile("MMMRMMMMMM")));
+
+        assertEquals(List.of("3 1 E"), run(3, obstacles, missions, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void shouldRejectSharedStartCell() {
+        List<Mission> missions = List.of(
+                new Mission(0, 0, Direction.NORTH, CommandProgram.EMPTY),
+                new Mission(0, 0, Direction.EAST, CommandProgram.EMPTY));
+
+        assertThrows(IllegalArgumentException.class, () -> run(5, BlockerSets.NONE, missions, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void shouldMatchNaiveTicksForAnyThreadCount() {
+        Random random = new Random(14);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 20; trial++) {
+                int border = 3 + random.nextInt(20);
+                PackedBlockerSet obstacles = new PackedBlockerSet();
+                for (int i = 0; i < border; i++) {
+                    obstacles.block(random.nextInt(2 * border + 1) - border, random.nextInt(2 * border + 1) - border);
+                }
+                List<Mission> missions = new ArrayList<>();
+                Set<Position> starts = new HashSet<>();
+                for (Mission mission : FleetExecutorTest.randomMissions(random, border * border, border, 30)) {
+                    if (starts.add(new Position(mission.getX(), mission.getY()))) {
+                        missions.add(mission);
+                    }
+                }
+
+                List<String> expected = runNaively(border, obstacles, missions);
+                assertEquals(expected, run(border, obstacles, missions, single));
+                assertEquals(expected, run(border, obstacles, missions, several));
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.marsrover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TileBlockerSet Tests")
+class TileBlockerSetTest extends BlockerSetContractTest {
+
+    @Override
+    protected AbstractBlockerSet newBlockerSet() {
+        return new TileBlockerSet();
+    }
+
+    @Test
+    void shouldHandleExtremeCoordinates() {
+        TileBlockerSet blockers = new TileBlockerSet();
+        assertTrue(blockers.block(Integer.MIN_VALUE, Integer.MIN_VALUE));
+        assertTrue(blockers.block(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertTrue(blockers.block(-1, 0));
+
+        assertTrue(blockers.isBlocked(Integer.MIN_VALUE, Integer.MIN_VALUE));
+        assertTrue(blockers.isBlocked(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertTrue(blockers.isBlocked(-1, 0));
+        assertFalse(blockers.isBlocked(0, 0));
+        assertFalse(blockers.isBlocked(63, 0));
+        assertEquals(Set.of(new Position(Integer.MIN_VALUE, Integer.MIN_VALUE),
+                new Position(Integer.MAX_VALUE, Integer.MAX_VALUE), new Position(-1, 0)), new HashSet<>(blockers));
+    }
+
+    @Test
+    void shouldAllocateOneTilePerCluster() {
+        TileBlockerSet blockers = new TileBlockerSet();
+        for (int x = 0; x < 64; x++) {
+            for (int y = 0; y < 64; y++) {
+                blockers.block(1_000_000 + x, -1_000_000 + y);
+            }
+        }
+        blockers.block(5, 5);
+
+        assertEquals(4097, blockers.count());
+        assertEquals(2, blockers.getTileCount());
+
+        blockers.unblock(5, 5);
+        assertEquals(1, blockers.getTileCount());
+        blockers.clear();
+        assertEquals(0, blockers.getTileCount());
+        assertTrue(blockers.isEmpty());
+    }
+
+    @Test
+    void shouldAnswerRegionQueriesAtTileBoundaries() {
+        TileBlockerSet blockers = new TileBlockerSet();
+        blockers.block(63, 64);
+        blockers.block(-65, -1);
+
+        assertFalse(blockers.isRegionClear(63, 64, 63, 64));
+        assertTrue(blockers.isRegionClear(0, 0, 63, 63));
+        assertTrue(blockers.isRegionClear(64, 64, 127, 127));
+        assertFalse(blockers.isRegionClear(60, 60, 70, 70));
+        assertTrue(blockers.isRegionClear(-64, -64, 62, 200));
+        assertFalse(blockers.isRegionClear(-65, -1, -65, -1));
+        assertTrue(blockers.isRegionClear(-64, -128, -1, -1));
+        assertFalse(blockers.isRegionClear(-128, -64, -65, -1));
+        assertFalse(blockers.isRegionClear(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}